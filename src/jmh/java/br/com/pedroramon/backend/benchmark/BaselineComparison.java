@@ -0,0 +1,100 @@
+package br.com.pedroramon.backend.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara um resultado JMH em JSON com uma linha de base armazenada.
+ *
+ * Para cada benchmark presente nos dois arquivos, compara a métrica principal
+ * (considerando se o modo é de vazão ou de tempo) e a alocação por operação
+ * ({@code gc.alloc.rate.norm}, do profiler {@code gc}). Termina com código
+ * {@code 1} se alguma variação desfavorável ultrapassar o limite informado.
+ *
+ * Uso: {@code BaselineComparison <baseline.json> <resultado.json> [limite]},
+ * onde o limite é uma fração (padrão {@code 0.10}, ou seja, 10%).
+ */
+public final class BaselineComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: BaselineComparison <baseline.json> <resultado.json> [limite]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[0]);
+        File resultFile = new File(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        if (!baselineFile.isFile()) {
+            System.err.println("Linha de base não encontrada: " + baselineFile
+                    + ". Copie um resultado em src/jmh/baselines para criá-la.");
+            System.exit(2);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselineFile));
+        Map<String, JsonNode> current = index(objectMapper.readTree(resultFile));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("%-90s sem linha de base%n", entry.getKey());
+                continue;
+            }
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().path("mode").asText());
+            regressions += compare(entry.getKey(), "score",
+                    previous.path("primaryMetric"), entry.getValue().path("primaryMetric"), higherIsBetter, threshold);
+            regressions += compare(entry.getKey(), "alloc",
+                    previous.path("secondaryMetrics").path(ALLOCATION_METRIC),
+                    entry.getValue().path("secondaryMetrics").path(ALLOCATION_METRIC), false, threshold);
+        }
+
+        System.out.printf("%d regressões acima de %.0f%%%n", regressions, threshold * 100);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    private static int compare(String benchmark, String metric, JsonNode previous, JsonNode current,
+                               boolean higherIsBetter, double threshold) {
+        if (!previous.has("score") || !current.has("score")) {
+            return 0;
+        }
+        double before = previous.path("score").asDouble();
+        double after = current.path("score").asDouble();
+        if (before == 0) {
+            return 0;
+        }
+        double change = (after - before) / before;
+        boolean regression = higherIsBetter ? change < -threshold : change > threshold;
+        System.out.printf("%-90s %-5s %14.3f -> %14.3f %s (%+.1f%%)%s%n", benchmark, metric, before, after,
+                current.path("scoreUnit").asText(), change * 100, regression ? "  REGRESSÃO" : "");
+        return regression ? 1 : 0;
+    }
+
+    /**
+     * Indexa os resultados pelo nome do benchmark e pelos valores de {@code @Param}.
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            indexed.put(key.toString(), result);
+        }
+        return indexed;
+    }
+}
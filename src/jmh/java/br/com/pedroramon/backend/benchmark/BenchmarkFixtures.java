@@ -0,0 +1,77 @@
+package br.com.pedroramon.backend.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.pedroramon.backend.dto.RoomDTO;
+import br.com.pedroramon.backend.dto.StatusRoomDTO;
+import br.com.pedroramon.backend.dto.TypeRoomDTO;
+import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.model.TypeRoom;
+
+/**
+ * Dados usados pelos benchmarks, montados uma única vez por estado JMH.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static TypeRoom typeRoom() {
+        TypeRoom typeRoom = new TypeRoom(1L, "Suíte Luxo");
+        typeRoom.setVersion(3L);
+        typeRoom.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        return typeRoom;
+    }
+
+    public static StatusRoom statusRoom() {
+        StatusRoom statusRoom = new StatusRoom(2L, "Disponível");
+        statusRoom.setVersion(1L);
+        statusRoom.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        return statusRoom;
+    }
+
+    /**
+     * Cria um quarto completo, com tipo e status associados.
+     *
+     * @param id O ID do quarto; o número do quarto é derivado dele.
+     * @param typeRoom O tipo compartilhado entre os quartos.
+     * @param statusRoom O status compartilhado entre os quartos.
+     * @return O quarto criado.
+     */
+    public static Room room(long id, TypeRoom typeRoom, StatusRoom statusRoom) {
+        Room room = new Room(id, 100 + (int) id, new BigDecimal("189.90"), typeRoom.getTypeRoomId(), statusRoom.getStatusRoomId());
+        room.setTypeRoom(typeRoom);
+        room.setStatusRoom(statusRoom);
+        room.setVersion(7L);
+        room.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        room.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 30));
+        return room;
+    }
+
+    public static List<Room> rooms(int size) {
+        TypeRoom typeRoom = typeRoom();
+        StatusRoom statusRoom = statusRoom();
+        List<Room> rooms = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            rooms.add(room(i, typeRoom, statusRoom));
+        }
+        return rooms;
+    }
+
+    public static RoomDTO roomDto(long id) {
+        return new RoomDTO(id, 100 + (int) id, new BigDecimal("189.90"), 1L, 2L,
+                new TypeRoomDTO(1L, "Suíte Luxo", 3L), new StatusRoomDTO(2L, "Disponível", 1L), 7L);
+    }
+
+    public static List<RoomDTO> roomDtos(int size) {
+        List<RoomDTO> rooms = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            rooms.add(roomDto(i));
+        }
+        return rooms;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.pedroramon.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.pedroramon.backend.dto.RoomDTO;
+import br.com.pedroramon.backend.mapper.MapperFactory;
+import br.com.pedroramon.backend.model.Room;
+
+/**
+ * Conversões entre {@link Room} e {@link RoomDTO} feitas pelos mapeadores de
+ * {@link MapperFactory}, incluindo o tipo e o status aninhados.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private MapperFactory mapperFactory;
+    private Room room;
+    private RoomDTO roomDto;
+
+    @Setup
+    public void setUp() {
+        mapperFactory = new MapperFactory();
+        room = BenchmarkFixtures.room(1L, BenchmarkFixtures.typeRoom(), BenchmarkFixtures.statusRoom());
+        roomDto = BenchmarkFixtures.roomDto(1L);
+    }
+
+    @Benchmark
+    public RoomDTO roomToDto() {
+        return mapperFactory.getRoomMapper().toDto(room);
+    }
+
+    @Benchmark
+    public Room dtoToRoom() {
+        return mapperFactory.getRoomMapper().toEntity(roomDto);
+    }
+
+    @Benchmark
+    public RoomDTO roundTrip() {
+        return mapperFactory.getRoomMapper().toDto(mapperFactory.getRoomMapper().toEntity(roomDto));
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.pedroramon.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.pedroramon.backend.dto.RoomDTO;
+import br.com.pedroramon.backend.dto.StatusRoomDTO;
+import br.com.pedroramon.backend.dto.TypeRoomDTO;
+import br.com.pedroramon.backend.mapper.EntityDtoMapper;
+import br.com.pedroramon.backend.mapper.IEntityDtoMapper;
+import br.com.pedroramon.backend.mapper.MapperFactory;
+import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.model.TypeRoom;
+
+/**
+ * Compara os mapeadores gerados pelo MapStruct, usados por {@link MapperFactory},
+ * com os mapeadores montados a partir de funções ({@link EntityDtoMapper}),
+ * usados anteriormente, na conversão de um quarto e de listas de quartos.
+ *
+ * As listas dos mapeadores por funções crescem a partir da capacidade padrão,
+ * como no {@code collectList()} usado antes pelos controladores; as dos
+ * mapeadores gerados usam {@link IEntityDtoMapper#toDtoList(List)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperComparisonBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private IEntityDtoMapper<Room, RoomDTO> generated;
+    private IEntityDtoMapper<Room, RoomDTO> functions;
+    private Room room;
+    private List<Room> rooms;
+
+    @Setup
+    public void setUp() {
+        generated = new MapperFactory().getRoomMapper();
+        functions = functionRoomMapper();
+        room = BenchmarkFixtures.room(1L, BenchmarkFixtures.typeRoom(), BenchmarkFixtures.statusRoom());
+        rooms = BenchmarkFixtures.rooms(size);
+    }
+
+    @Benchmark
+    public RoomDTO generatedToDto() {
+        return generated.toDto(room);
+    }
+
+    @Benchmark
+    public RoomDTO functionsToDto() {
+        return functions.toDto(room);
+    }
+
+    @Benchmark
+    public List<RoomDTO> generatedToDtoList() {
+        return generated.toDtoList(rooms);
+    }
+
+    @Benchmark
+    public List<RoomDTO> functionsToDtoList() {
+        List<RoomDTO> dtos = new ArrayList<>();
+        for (Room entity : rooms) {
+            dtos.add(functions.toDto(entity));
+        }
+        return dtos;
+    }
+
+    /**
+     * Os mapeadores de quarto, tipo e status como eram montados pelo
+     * {@link MapperFactory} antes da geração de código.
+     */
+    private static EntityDtoMapper<Room, RoomDTO> functionRoomMapper() {
+        EntityDtoMapper<TypeRoom, TypeRoomDTO> typeRoomMapper = new EntityDtoMapper<>(
+            typeRoom -> new TypeRoomDTO(typeRoom.getTypeRoomId(), typeRoom.getName(), typeRoom.getVersion()),
+            dto -> {
+                TypeRoom typeRoom = new TypeRoom(dto.id(), dto.name());
+                typeRoom.setVersion(dto.version());
+                return typeRoom;
+            }
+        );
+        EntityDtoMapper<StatusRoom, StatusRoomDTO> statusRoomMapper = new EntityDtoMapper<>(
+            statusRoom -> new StatusRoomDTO(statusRoom.getStatusRoomId(), statusRoom.getDescription(), statusRoom.getVersion()),
+            dto -> {
+                StatusRoom statusRoom = new StatusRoom(dto.id(), dto.description());
+                statusRoom.setVersion(dto.version());
+                return statusRoom;
+            }
+        );
+        return new EntityDtoMapper<>(
+            entity -> new RoomDTO(
+                entity.getId(),
+                entity.getRoomNumber(),
+                entity.getDailyRate(),
+                entity.getTypeRoomId(),
+                entity.getStatusRoomId(),
+                typeRoomMapper.toDto(entity.getTypeRoom()),
+                statusRoomMapper.toDto(entity.getStatusRoom()),
+                entity.getVersion()
+            ),
+            dto -> {
+                Room entity = new Room(dto.id(), dto.roomNumber(), dto.dailyRate(), dto.typeRoomId(), dto.statusRoomId());
+                entity.setVersion(dto.version());
+                return entity;
+            }
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.pedroramon.backend.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.pedroramon.backend.dto.RoomDTO;
+import br.com.pedroramon.backend.dto.interfaces.OnUpdate;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.groups.Default;
+
+/**
+ * Bean Validation de {@link RoomDTO} nos grupos usados pelo
+ * {@code RoomController}: {@link Default} na criação e {@link OnUpdate} na
+ * atualização, com e sem violações.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private RoomDTO newRoom;
+    private RoomDTO existingRoom;
+    private RoomDTO invalidRoom;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        newRoom = new RoomDTO(null, 101, new BigDecimal("189.90"), 1L, 2L, null, null);
+        existingRoom = BenchmarkFixtures.roomDto(1L);
+        invalidRoom = new RoomDTO(null, -1, null, 1L, null, null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RoomDTO>> validateDefaultGroup() {
+        return validator.validate(newRoom, Default.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RoomDTO>> validateOnUpdateGroup() {
+        return validator.validate(existingRoom, OnUpdate.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RoomDTO>> validateDefaultGroupWithViolations() {
+        return validator.validate(invalidRoom, Default.class);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.pedroramon.backend.service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Validação da taxa diária em {@link RoomService#validateDailyRate(BigDecimal)},
+ * para valores aceitos e recusados. Fica no mesmo pacote do serviço para
+ * acessar o método, que é visível apenas no pacote.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DailyRateValidationBenchmark {
+
+    private RoomService roomService;
+    private BigDecimal validRate;
+    private BigDecimal invalidRate;
+
+    @Setup
+    public void setUp() {
+        roomService = new RoomService(null, null, null);
+        validRate = new BigDecimal("189.90");
+        invalidRate = new BigDecimal("59.99");
+    }
+
+    @Benchmark
+    public Mono<Void> validRate() {
+        return roomService.validateDailyRate(validRate);
+    }
+
+    @Benchmark
+    public Mono<Void> invalidRate() {
+        return roomService.validateDailyRate(invalidRate);
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.pedroramon.backend.service;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.pedroramon.backend.benchmark.BenchmarkFixtures;
+import br.com.pedroramon.backend.exception.ResourceNotFoundException;
+import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.repository.IRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Custo do tratamento de erros em {@link GenericService#findById(Long)}.
+ *
+ * Execute com o profiler {@code gc} (já configurado no perfil {@code jmh}) e
+ * compare {@code gc.alloc.rate.norm}: em relação a {@code noErrorOnSuccess},
+ * {@code lazyErrorOnSuccess} aloca no máximo o operador e a função que cria o
+ * erro, sem exceção nem mensagem, enquanto {@code eagerErrorOnSuccess} mostra
+ * o custo do padrão anterior, que montava a exceção e a mensagem em toda
+ * chamada. {@code stacklessException} e {@code stackTraceException} comparam a
+ * criação da exceção no caminho de erro.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+
+    private GenericService<Room> service;
+    private Room room;
+    private Long existingId;
+    private Long missingId;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        room = BenchmarkFixtures.room(1L, BenchmarkFixtures.typeRoom(), BenchmarkFixtures.statusRoom());
+        existingId = 1L;
+        missingId = 2L;
+        // Repositório em memória: apenas findById é usado pelo serviço.
+        IRepository<Room> repository = (IRepository<Room>) Proxy.newProxyInstance(
+                IRepository.class.getClassLoader(), new Class<?>[] {IRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById") && existingId.equals(args[0])) {
+                        return Mono.just(room);
+                    }
+                    if (method.getName().equals("findById")) {
+                        return Mono.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        service = new GenericService<>(repository) {};
+    }
+
+    @Benchmark
+    public Room findByIdFound() {
+        return service.findById(existingId).block();
+    }
+
+    @Benchmark
+    public Room findByIdMissing() {
+        return service.findById(missingId).onErrorResume(ResourceNotFoundException.class, ex -> Mono.empty()).block();
+    }
+
+    @Benchmark
+    public Room noErrorOnSuccess() {
+        return Mono.just(room).block();
+    }
+
+    @Benchmark
+    public Room lazyErrorOnSuccess() {
+        Long id = existingId;
+        return Mono.just(room)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Object not found with id: " + id)))
+                .block();
+    }
+
+    @Benchmark
+    public Room eagerErrorOnSuccess() {
+        return Mono.just(room)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Object not found with id: " + existingId)))
+                .block();
+    }
+
+    @Benchmark
+    public RuntimeException stacklessException() {
+        return new ResourceNotFoundException("Object not found with id: " + missingId);
+    }
+
+    @Benchmark
+    public RuntimeException stackTraceException() {
+        return new RuntimeException("Object not found with id: " + missingId);
+    }
+}
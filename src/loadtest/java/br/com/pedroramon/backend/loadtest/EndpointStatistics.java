@@ -0,0 +1,74 @@
+package br.com.pedroramon.backend.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latências e erros de um endpoint, registrados em microssegundos em um
+ * {@link Histogram} do HdrHistogram.
+ */
+final class EndpointStatistics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String endpoint;
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStatistics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void recordSuccess(long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    void reset() {
+        histogram.reset();
+        errors.reset();
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+
+    /**
+     * Grava a distribuição completa de percentis (formato {@code .hgrm}, em milissegundos),
+     * que pode ser comparada entre execuções ou aberta no HdrHistogram Plotter.
+     *
+     * @param directory O diretório de saída.
+     */
+    void writeDistribution(Path directory) throws IOException {
+        String fileName = endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.pedroramon.backend.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import br.com.pedroramon.backend.BackendApplication;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Teste de carga de ponta a ponta.
+ *
+ * Sobe a aplicação completa com um banco H2 em memória (modo PostgreSQL),
+ * criado pelas mesmas migrações da aplicação, insere os dados iniciais e dispara a mistura de requisições de
+ * {@link LoadTestScenario} com a concorrência configurada. Cada requisição
+ * só é enviada quando a anterior do mesmo trabalhador termina (modelo fechado),
+ * então as latências não corrigem omissão coordenada; compare apenas
+ * execuções com os mesmos parâmetros na mesma máquina.
+ *
+ * Ao final, imprime a vazão e os percentis de latência por endpoint e grava
+ * {@code summary.csv} e um {@code .hgrm} por endpoint em {@code loadtest.output}.
+ */
+public final class LoadTest {
+
+    private static final String INSERT_TYPE_ROOM = """
+            INSERT INTO type_room (name, created_at, updated_at, version)
+            VALUES (:name, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)
+            """;
+
+    private static final String INSERT_STATUS_ROOM = """
+            INSERT INTO status_room (description, created_at, updated_at, version)
+            VALUES (:description, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)
+            """;
+
+    private static final String INSERT_ROOM = """
+            INSERT INTO rooms (room_number, daily_rate, type_room_id, status_room_id, created_at, updated_at, version)
+            VALUES (:roomNumber, :dailyRate, :typeRoomId, :statusRoomId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)
+            """;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties("spring.config.location=classpath:/loadtest/application.properties")
+                .run(args)) {
+            seed(context.getBean(DatabaseClient.class), settings.rooms());
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ConnectionProvider connections = ConnectionProvider.builder("loadtest")
+                    .maxConnections(settings.concurrency())
+                    .pendingAcquireMaxCount(-1)
+                    .build();
+            WebClient client = WebClient.builder()
+                    .baseUrl("http://localhost:" + port)
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                    .build();
+
+            LoadTestScenario scenario = new LoadTestScenario(client, settings);
+            run(scenario, settings.concurrency(), settings.warmup());
+            scenario.reset();
+            run(scenario, settings.concurrency(), settings.duration());
+
+            report(scenario, settings);
+            connections.dispose();
+        }
+    }
+
+    /**
+     * Insere os dados iniciais em ordem, para que os IDs gerados sejam
+     * previsíveis (de 1 até a quantidade de cada tabela).
+     */
+    private static void seed(DatabaseClient databaseClient, int rooms) {
+        Flux.fromIterable(LoadTestScenario.TYPE_ROOMS)
+                .concatMap(name -> databaseClient.sql(INSERT_TYPE_ROOM).bind("name", name).fetch().rowsUpdated())
+                .thenMany(Flux.fromIterable(LoadTestScenario.STATUS_ROOMS)
+                        .concatMap(description -> databaseClient.sql(INSERT_STATUS_ROOM)
+                                .bind("description", description).fetch().rowsUpdated()))
+                .then()
+                .block();
+        Flux.range(1, rooms)
+                .concatMap(i -> databaseClient.sql(INSERT_ROOM)
+                        .bind("roomNumber", LoadTestScenario.FIRST_ROOM_NUMBER + i)
+                        .bind("dailyRate", BigDecimal.valueOf(6000 + (i % 50) * 1000L, 2))
+                        .bind("typeRoomId", (long) (1 + i % LoadTestScenario.TYPE_ROOMS.size()))
+                        .bind("statusRoomId", (long) (1 + i % LoadTestScenario.STATUS_ROOMS.size()))
+                        .fetch()
+                        .rowsUpdated())
+                .then()
+                .block();
+    }
+
+    /**
+     * Mantém {@code concurrency} requisições em andamento até o fim do período.
+     */
+    private static void run(LoadTestScenario scenario, int concurrency, Duration period) {
+        long deadline = System.nanoTime() + period.toNanos();
+        Flux.range(0, concurrency)
+                .flatMap(worker -> Mono.defer(scenario::next).repeat(() -> System.nanoTime() < deadline), concurrency)
+                .then()
+                .block();
+    }
+
+    private static void report(LoadTestScenario scenario, LoadTestSettings settings) throws IOException {
+        Files.createDirectories(settings.outputDirectory());
+        double seconds = settings.duration().toMillis() / 1000.0;
+        String header = "endpoint,count,errors,throughput_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+        PrintStream out = System.out;
+        out.printf(Locale.ROOT, "%nconcorrência=%d duração=%ss escrita=%.0f%% quartos=%d%n",
+                settings.concurrency(), settings.duration().toSeconds(), settings.writeRatio() * 100, settings.rooms());
+        out.printf(Locale.ROOT, "%-32s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max");
+
+        try (PrintStream csv = new PrintStream(Files.newOutputStream(settings.outputDirectory().resolve("summary.csv")))) {
+            csv.println(header);
+            for (EndpointStatistics statistics : scenario.statistics()) {
+                double throughput = statistics.count() / seconds;
+                out.printf(Locale.ROOT, "%-32s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                        statistics.endpoint(), statistics.count(), statistics.errors(), throughput,
+                        statistics.percentileMillis(50), statistics.percentileMillis(90),
+                        statistics.percentileMillis(99), statistics.percentileMillis(99.9), statistics.maxMillis());
+                csv.printf(Locale.ROOT, "%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                        statistics.endpoint(), statistics.count(), statistics.errors(), throughput,
+                        statistics.percentileMillis(50), statistics.percentileMillis(90),
+                        statistics.percentileMillis(99), statistics.percentileMillis(99.9), statistics.maxMillis());
+                statistics.writeDistribution(settings.outputDirectory());
+            }
+        }
+        out.println("Relatórios gravados em " + settings.outputDirectory().toAbsolutePath());
+    }
+}
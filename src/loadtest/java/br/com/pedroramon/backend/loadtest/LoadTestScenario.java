@@ -0,0 +1,134 @@
+package br.com.pedroramon.backend.loadtest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import br.com.pedroramon.backend.dto.RoomDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mistura de requisições de leitura e escrita sobre {@code RoomController},
+ * {@code TypeRoomController} e {@code StatusRoomController}.
+ *
+ * Cada requisição é sorteada pelo peso da operação, dentro do grupo de leitura
+ * ou de escrita conforme {@link LoadTestSettings#writeRatio()}.
+ */
+final class LoadTestScenario {
+
+    static final List<String> TYPE_ROOMS = List.of("Solteiro", "Casal", "Triplo", "Suíte", "Suíte Luxo");
+    static final List<String> STATUS_ROOMS = List.of("Disponível", "Ocupado", "Limpeza", "Manutenção");
+    static final int FIRST_ROOM_NUMBER = 1000;
+
+    private final WebClient client;
+    private final LoadTestSettings settings;
+    private final Map<String, EndpointStatistics> statistics = new LinkedHashMap<>();
+    private final List<Operation> reads = new ArrayList<>();
+    private final List<Operation> writes = new ArrayList<>();
+    private final AtomicInteger nextRoomNumber;
+
+    LoadTestScenario(WebClient client, LoadTestSettings settings) {
+        this.client = client;
+        this.settings = settings;
+        this.nextRoomNumber = new AtomicInteger(FIRST_ROOM_NUMBER + settings.rooms() + 1);
+
+        reads.add(operation("GET /api/rooms?after&limit=50", 30, () -> get("/api/rooms?after={after}&limit=50", randomRoomId() - 1)));
+        reads.add(operation("GET /api/rooms/{id}", 40, () -> get("/api/rooms/{id}", randomRoomId())));
+        reads.add(operation("GET /api/type-rooms", 10, () -> get("/api/type-rooms")));
+        reads.add(operation("GET /api/type-rooms/{id}", 5, () -> get("/api/type-rooms/{id}", random(TYPE_ROOMS.size()))));
+        reads.add(operation("GET /api/status-rooms", 10, () -> get("/api/status-rooms")));
+        reads.add(operation("GET /api/status-rooms/{id}", 5, () -> get("/api/status-rooms/{id}", random(STATUS_ROOMS.size()))));
+
+        writes.add(operation("POST /api/rooms", 50, () -> client.post().uri("/api/rooms")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new RoomDTO(null, nextRoomNumber.getAndIncrement(), randomDailyRate(),
+                        (long) random(TYPE_ROOMS.size()), (long) random(STATUS_ROOMS.size()), null, null))
+                .retrieve()
+                .toBodilessEntity()));
+        writes.add(operation("PUT /api/rooms", 50, () -> {
+            long id = randomRoomId();
+            return client.put().uri("/api/rooms")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new RoomDTO(id, FIRST_ROOM_NUMBER + (int) id, randomDailyRate(),
+                            (long) random(TYPE_ROOMS.size()), (long) random(STATUS_ROOMS.size()), null, null))
+                    .retrieve()
+                    .toBodilessEntity();
+        }));
+    }
+
+    /**
+     * Executa uma requisição sorteada, registrando a latência medida da
+     * assinatura até o recebimento completo da resposta.
+     *
+     * @return Um {@link Mono} que termina quando a resposta é recebida; erros são contabilizados, não propagados.
+     */
+    Mono<Void> next() {
+        List<Operation> group = ThreadLocalRandom.current().nextDouble() < settings.writeRatio() ? writes : reads;
+        Operation operation = pick(group);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return operation.request().get()
+                    .then()
+                    .doOnSuccess(ignored -> operation.statistics().recordSuccess(System.nanoTime() - start))
+                    .onErrorResume(ex -> {
+                        operation.statistics().recordError();
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    Iterable<EndpointStatistics> statistics() {
+        return statistics.values();
+    }
+
+    void reset() {
+        statistics.values().forEach(EndpointStatistics::reset);
+    }
+
+    private Operation operation(String endpoint, int weight, Supplier<Mono<?>> request) {
+        EndpointStatistics endpointStatistics = new EndpointStatistics(endpoint);
+        statistics.put(endpoint, endpointStatistics);
+        return new Operation(weight, request, endpointStatistics);
+    }
+
+    private Mono<?> get(String uri, Object... variables) {
+        return client.get().uri(uri, variables).accept(MediaType.APPLICATION_JSON).retrieve().toBodilessEntity();
+    }
+
+    private long randomRoomId() {
+        return random(settings.rooms());
+    }
+
+    private static int random(int max) {
+        return 1 + ThreadLocalRandom.current().nextInt(max);
+    }
+
+    private static BigDecimal randomDailyRate() {
+        return BigDecimal.valueOf(6000 + ThreadLocalRandom.current().nextInt(50000), 2);
+    }
+
+    private static Operation pick(List<Operation> group) {
+        int total = 0;
+        for (Operation operation : group) {
+            total += operation.weight();
+        }
+        int target = ThreadLocalRandom.current().nextInt(total);
+        for (Operation operation : group) {
+            target -= operation.weight();
+            if (target < 0) {
+                return operation;
+            }
+        }
+        return group.get(group.size() - 1);
+    }
+
+    private record Operation(int weight, Supplier<Mono<?>> request, EndpointStatistics statistics) {}
+}
@@ -0,0 +1,34 @@
+package br.com.pedroramon.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Parâmetros de uma execução do teste de carga, lidos de propriedades de sistema.
+ *
+ * @param concurrency Quantidade de requisições simultâneas ({@code loadtest.concurrency}).
+ * @param warmup Duração do aquecimento, cujas medições são descartadas ({@code loadtest.warmup}, em segundos).
+ * @param duration Duração da medição ({@code loadtest.duration}, em segundos).
+ * @param writeRatio Fração das requisições que são escritas ({@code loadtest.write-ratio}).
+ * @param rooms Quantidade de quartos inseridos antes da execução ({@code loadtest.rooms}).
+ * @param outputDirectory Diretório dos relatórios ({@code loadtest.output}).
+ */
+record LoadTestSettings(
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    double writeRatio,
+    int rooms,
+    Path outputDirectory
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 30L)),
+                Double.parseDouble(System.getProperty("loadtest.write-ratio", "0.1")),
+                Integer.getInteger("loadtest.rooms", 1000),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest")));
+    }
+}
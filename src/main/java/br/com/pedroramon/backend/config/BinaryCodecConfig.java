@@ -0,0 +1,53 @@
+package br.com.pedroramon.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Codificações binárias negociadas pelo cabeçalho {@code Accept}, além do JSON:
+ * CBOR ({@code application/cbor}) e Smile ({@code application/x-jackson-smile}).
+ *
+ * Os {@link ObjectMapper} binários partem do mesmo {@link Jackson2ObjectMapperBuilder}
+ * do Spring Boot, com os mesmos módulos e configurações do JSON, de modo que
+ * os campos e a ordem deles são os mesmos nas três codificações.
+ *
+ * Os codecs são registrados como personalizados, que o Spring consulta antes
+ * dos padrão. Por isso o codificador JSON da aplicação é registrado primeiro:
+ * a ordem dos codificadores desempata o {@code Accept: *}{@code /*}, e o JSON
+ * continua sendo a resposta padrão dos endpoints sem {@code produces}.
+ */
+@Configuration
+public class BinaryCodecConfig implements WebFluxConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    public BinaryCodecConfig(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+        this.jsonMapper = objectMapper;
+        this.cborMapper = builder.factory(new CBORFactory()).build();
+        this.smileMapper = builder.factory(new SmileFactory()).build();
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new Jackson2JsonEncoder(jsonMapper));
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+        configurer.customCodecs().register(new CollectingJackson2Encoder(cborMapper, MediaType.APPLICATION_CBOR));
+        configurer.customCodecs().register(new Jackson2SmileDecoder(smileMapper, APPLICATION_SMILE));
+        configurer.customCodecs().register(new CollectingJackson2Encoder(smileMapper, APPLICATION_SMILE));
+    }
+}
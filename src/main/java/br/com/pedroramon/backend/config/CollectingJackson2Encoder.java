@@ -0,0 +1,45 @@
+package br.com.pedroramon.backend.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Codificador Jackson para formatos binários (CBOR, Smile) que junta os
+ * elementos de um {@link Flux} em uma lista e a codifica como um único array.
+ *
+ * Os codificadores do Spring para esses formatos não codificam fluxos (CBOR)
+ * ou montam o array com os delimitadores textuais do JSON (Smile). As
+ * coleções servidas nesses formatos são limitadas ao inventário do hotel, e
+ * as respostas em streaming (NDJSON, SSE) continuam em JSON.
+ */
+final class CollectingJackson2Encoder extends AbstractJackson2Encoder {
+
+    CollectingJackson2Encoder(ObjectMapper mapper, MimeType... mimeTypes) {
+        super(mapper, mimeTypes);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+        return Flux.from(inputStream)
+                .collectList()
+                .map(values -> encodeValue(values, bufferFactory, listType, mimeType, hints))
+                .flux();
+    }
+}
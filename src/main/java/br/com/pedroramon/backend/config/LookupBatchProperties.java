@@ -0,0 +1,23 @@
+package br.com.pedroramon.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configurações do agrupamento de buscas por ID em lotes.
+ *
+ * Buscas por ID que chegam ao repositório dentro da mesma janela são
+ * resolvidas por uma única consulta {@code WHERE id IN (...)}.
+ *
+ * @param enabled Se as buscas por ID são agrupadas em lotes.
+ * @param window Tempo máximo de espera para completar um lote.
+ * @param maxSize Quantidade máxima de IDs em um lote; um lote cheio é consultado sem esperar a janela.
+ */
+@ConfigurationProperties("hotel.lookup.batch")
+public record LookupBatchProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("2ms") Duration window,
+    @DefaultValue("100") int maxSize
+) {}
@@ -0,0 +1,75 @@
+package br.com.pedroramon.backend.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Publisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ConnectionFactory} que mede o tempo de aquisição de conexões do pool.
+ *
+ * O tempo medido vai da solicitação da conexão até sua entrega (ou falha), e
+ * é publicado como histograma em {@code hotel.r2dbc.pool.acquire}. Comparado
+ * ao tempo das consultas, permite distinguir um banco lento de um pool esgotado.
+ * A classe implementa {@link Wrapped}, o que mantém visíveis as métricas de
+ * ocupação do {@link ConnectionPool} publicadas pelo Spring Boot
+ * ({@code r2dbc.pool.acquired}, {@code r2dbc.pool.idle}, {@code r2dbc.pool.pending}).
+ */
+public class MeteredConnectionFactory implements ConnectionFactory, Wrapped<ConnectionPool> {
+
+    static final String ACQUIRE_TIMER = "hotel.r2dbc.pool.acquire";
+
+    private final ConnectionPool pool;
+    private final Timer acquireSuccess;
+    private final Timer acquireFailure;
+
+    public MeteredConnectionFactory(ConnectionPool pool, String poolName, MeterRegistry registry) {
+        this.pool = pool;
+        this.acquireSuccess = acquireTimer(poolName, "success", registry);
+        this.acquireFailure = acquireTimer(poolName, "error", registry);
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return Mono.<Connection>from(pool.create())
+                    .doOnNext(connection -> acquireSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(ex -> acquireFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionPool unwrap() {
+        return pool;
+    }
+
+    /**
+     * Fecha o pool e todas as suas conexões.
+     */
+    public void dispose() {
+        pool.dispose();
+    }
+
+    private static Timer acquireTimer(String poolName, String outcome, MeterRegistry registry) {
+        return Timer.builder(ACQUIRE_TIMER)
+                .description("Tempo de espera para obter uma conexão do pool")
+                .tag("pool", poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
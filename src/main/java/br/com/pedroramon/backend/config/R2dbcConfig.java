@@ -2,8 +2,13 @@ package br.com.pedroramon.backend.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+import br.com.pedroramon.backend.repository.IRepository;
+import br.com.pedroramon.backend.repository.VersionedR2dbcRepository;
 
 @Configuration
 @EnableR2dbcAuditing
+@EnableR2dbcRepositories(basePackageClasses = IRepository.class, repositoryBaseClass = VersionedR2dbcRepository.class)
 public class R2dbcConfig {
 }
@@ -0,0 +1,70 @@
+package br.com.pedroramon.backend.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Configuração explícita do pool de conexões R2DBC.
+ *
+ * A conexão com o banco continua definida por {@code spring.r2dbc.url},
+ * {@code spring.r2dbc.username} e {@code spring.r2dbc.password}; o
+ * dimensionamento do pool vem de {@link R2dbcPoolProperties}. O pool é
+ * preenchido até o tamanho mínimo durante a criação do bean, antes de a
+ * aplicação ficar pronta para receber requisições.
+ */
+@Configuration
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class R2dbcPoolConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(R2dbcPoolConfig.class);
+
+    static final String POOL_NAME = "hotel";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionFactory connectionFactory(R2dbcProperties r2dbcProperties, R2dbcPoolProperties poolProperties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(r2dbcProperties.getUrl())
+                .username(r2dbcProperties.getUsername())
+                .password(r2dbcProperties.getPassword())
+                .build();
+
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(POOL_NAME)
+                .initialSize(poolProperties.minSize())
+                .minIdle(poolProperties.minSize())
+                .maxSize(poolProperties.maxSize())
+                .maxAcquireTime(poolProperties.acquireTimeout())
+                .maxIdleTime(poolProperties.maxIdleTime())
+                .maxLifeTime(poolProperties.maxLifeTime())
+                .validationQuery(poolProperties.validationQuery())
+                .build());
+
+        if (poolProperties.warmup()) {
+            warmup(pool, poolProperties.acquireTimeout().multipliedBy(Math.max(1, poolProperties.minSize())));
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return registry == null ? pool : new MeteredConnectionFactory(pool, POOL_NAME, registry);
+    }
+
+    private static void warmup(ConnectionPool pool, Duration timeout) {
+        try {
+            Integer created = pool.warmup().block(timeout);
+            log.info("Pool de conexões R2DBC preenchido com {} conexões", created);
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao preencher o pool de conexões R2DBC: {}", ex.getMessage());
+        }
+    }
+}
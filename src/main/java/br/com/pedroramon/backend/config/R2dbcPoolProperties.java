@@ -0,0 +1,28 @@
+package br.com.pedroramon.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configurações do pool de conexões R2DBC.
+ *
+ * @param minSize Quantidade mínima de conexões ociosas; o pool é preenchido até esse valor na inicialização.
+ * @param maxSize Quantidade máxima de conexões abertas.
+ * @param acquireTimeout Tempo máximo de espera por uma conexão do pool.
+ * @param maxIdleTime Tempo máximo que uma conexão pode ficar ociosa antes de ser fechada.
+ * @param maxLifeTime Tempo máximo de vida de uma conexão.
+ * @param validationQuery Consulta usada para validar uma conexão antes de entregá-la.
+ * @param warmup Indica se o pool deve ser preenchido até {@code minSize} antes da aplicação ficar pronta.
+ */
+@ConfigurationProperties("hotel.r2dbc.pool")
+public record R2dbcPoolProperties(
+    @DefaultValue("5") int minSize,
+    @DefaultValue("20") int maxSize,
+    @DefaultValue("5s") Duration acquireTimeout,
+    @DefaultValue("30m") Duration maxIdleTime,
+    @DefaultValue("1h") Duration maxLifeTime,
+    @DefaultValue("SELECT 1") String validationQuery,
+    @DefaultValue("true") boolean warmup
+) {}
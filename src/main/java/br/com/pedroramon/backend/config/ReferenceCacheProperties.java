@@ -0,0 +1,20 @@
+package br.com.pedroramon.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configurações do cache em memória dos dados de referência (tipos e status de quarto).
+ *
+ * @param maximumSize Quantidade máxima de entidades mantidas no cache por serviço.
+ * @param expireAfterWrite Tempo de vida de cada entrada após ser carregada.
+ * @param preload Indica se todas as entidades devem ser carregadas na inicialização.
+ */
+@ConfigurationProperties("hotel.cache.reference")
+public record ReferenceCacheProperties(
+    @DefaultValue("1000") long maximumSize,
+    @DefaultValue("10m") Duration expireAfterWrite,
+    @DefaultValue("true") boolean preload
+) {}
@@ -0,0 +1,41 @@
+package br.com.pedroramon.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.pedroramon.backend.controller.EncodedResponseCache;
+import br.com.pedroramon.backend.mapper.MapperFactory;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.model.TypeRoom;
+import br.com.pedroramon.backend.service.StatusRoomService;
+import br.com.pedroramon.backend.service.TypeRoomService;
+
+/**
+ * Caches das respostas já codificadas dos endpoints de tipos e status de quarto.
+ *
+ * Sem estes beans, os controladores codificam as respostas a cada requisição.
+ * O conteúdo codificado tem o mesmo tempo de vida do cache de dados de
+ * referência ({@code hotel.cache.reference.expire-after-write}).
+ */
+@Configuration
+public class ResponseCacheConfig {
+
+    @Bean
+    public EncodedResponseCache<TypeRoom> typeRoomResponseCache(TypeRoomService service, MapperFactory mapperFactory,
+                                                                ObjectMapper objectMapper,
+                                                                ReferenceCacheProperties properties) {
+        return new EncodedResponseCache<>(service, mapperFactory.getTypeRoomMapper()::toDto, objectMapper,
+                properties.expireAfterWrite());
+    }
+
+    @Bean
+    public EncodedResponseCache<StatusRoom> statusRoomResponseCache(StatusRoomService service,
+                                                                    MapperFactory mapperFactory,
+                                                                    ObjectMapper objectMapper,
+                                                                    ReferenceCacheProperties properties) {
+        return new EncodedResponseCache<>(service, mapperFactory.getStatusRoomMapper()::toDto, objectMapper,
+                properties.expireAfterWrite());
+    }
+}
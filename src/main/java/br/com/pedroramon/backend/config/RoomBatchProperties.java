@@ -0,0 +1,16 @@
+package br.com.pedroramon.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configurações da criação e atualização de quartos em lote.
+ *
+ * @param maxSize Quantidade máxima de quartos aceita em um único lote.
+ * @param chunkSize Quantidade de quartos gravados por instrução SQL de múltiplas linhas.
+ */
+@ConfigurationProperties("hotel.rooms.batch")
+public record RoomBatchProperties(
+    @DefaultValue("1000") int maxSize,
+    @DefaultValue("500") int chunkSize
+) {}
@@ -0,0 +1,19 @@
+package br.com.pedroramon.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configurações da sincronização incremental de quartos ({@code GET /api/rooms/changes}).
+ *
+ * @param overlap Quanto o cursor devolvido recua em relação ao início da consulta,
+ *                para incluir escritas que já tinham data de atualização mas ainda
+ *                não estavam confirmadas. Os quartos dessa janela podem ser
+ *                entregues de novo na próxima sincronização.
+ */
+@ConfigurationProperties("hotel.rooms.changes")
+public record RoomChangesProperties(
+    @DefaultValue("5s") Duration overlap
+) {}
@@ -0,0 +1,18 @@
+package br.com.pedroramon.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configurações de paginação e streaming da listagem de quartos.
+ *
+ * @param defaultLimit Tamanho da página quando apenas o cursor {@code after} é informado.
+ * @param maxLimit Tamanho máximo aceito para uma página.
+ * @param streamFetchSize Quantidade de linhas buscadas por vez no modo streaming (NDJSON).
+ */
+@ConfigurationProperties("hotel.rooms.paging")
+public record RoomPagingProperties(
+    @DefaultValue("50") int defaultLimit,
+    @DefaultValue("500") int maxLimit,
+    @DefaultValue("256") int streamFetchSize
+) {}
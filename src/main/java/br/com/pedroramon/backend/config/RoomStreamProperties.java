@@ -0,0 +1,27 @@
+package br.com.pedroramon.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configurações do fluxo de eventos de quartos ({@code GET /api/rooms/stream}).
+ *
+ * @param bufferSize Quantidade máxima de eventos aguardando cada assinante.
+ * @param overflow O que fazer com um assinante que não acompanha os eventos.
+ */
+@ConfigurationProperties("hotel.rooms.stream")
+public record RoomStreamProperties(
+    @DefaultValue("256") int bufferSize,
+    @DefaultValue("DROP") OverflowPolicy overflow
+) {
+
+    /**
+     * Política para assinantes lentos.
+     */
+    public enum OverflowPolicy {
+        /** Mantém até {@code bufferSize} eventos, descartando os mais antigos. */
+        DROP,
+        /** Mantém apenas o evento mais recente. */
+        LATEST
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.pedroramon.backend.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor opaco da sincronização incremental de quartos. Guarda o instante a
+ * partir do qual a próxima sincronização deve buscar alterações.
+ */
+final class ChangeCursor {
+
+    private static final String VERSION = "v1|";
+
+    private ChangeCursor() {
+    }
+
+    static String encode(LocalDateTime since) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION + since).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor O cursor devolvido pela sincronização anterior.
+     * @return O instante guardado no cursor.
+     * @throws IllegalArgumentException Se o cursor for inválido.
+     */
+    static LocalDateTime decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(VERSION)) {
+                throw new IllegalArgumentException("Cursor de sincronização inválido");
+            }
+            return LocalDateTime.parse(value.substring(VERSION.length()));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Cursor de sincronização inválido");
+        }
+    }
+}
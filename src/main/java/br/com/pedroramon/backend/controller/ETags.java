@@ -0,0 +1,63 @@
+package br.com.pedroramon.backend.controller;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import br.com.pedroramon.backend.model.IEntity;
+import br.com.pedroramon.backend.repository.ResourceVersion;
+
+/**
+ * Monta as ETags fortes dos recursos a partir de {@link ResourceVersion}.
+ *
+ * As respostas com ETag são comparadas ao cabeçalho {@code If-None-Match} pelo
+ * próprio Spring ao escrever o {@code ResponseEntity}: quando a ETag coincide,
+ * a resposta é um 304 e o corpo, que é sempre um {@link reactor.core.publisher.Mono}
+ * ou {@link reactor.core.publisher.Flux} ainda não assinado, não é montado.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * @param version O resumo do estado do recurso.
+     * @return A ETag forte, entre aspas, correspondente ao resumo.
+     */
+    static String of(ResourceVersion version) {
+        long updatedAtMicros = 0;
+        if (version.lastUpdatedAt() != null) {
+            updatedAtMicros = version.lastUpdatedAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000
+                    + version.lastUpdatedAt().getNano() / 1_000;
+        }
+        return "\"" + Long.toHexString(version.count()) + "-" + Long.toHexString(version.versionSum())
+                + "-" + Long.toHexString(updatedAtMicros) + "\"";
+    }
+
+    /**
+     * @param entity A entidade, seguida das entidades incluídas na sua representação.
+     * @return A ETag forte da entidade.
+     */
+    static String of(IEntity... entity) {
+        return of(ResourceVersion.of(1, Arrays.asList(entity)));
+    }
+
+    /**
+     * @param entities Todas as entidades de uma coleção.
+     * @return A ETag forte da coleção.
+     */
+    static String ofCollection(List<? extends IEntity> entities) {
+        return of(ResourceVersion.of(entities.size(), entities));
+    }
+
+    /**
+     * Representações com codificações diferentes precisam de ETags fortes diferentes.
+     *
+     * @param eTag A ETag da representação em JSON.
+     * @param encoding O sufixo da codificação, como {@code gz} ou {@code cbor}.
+     * @return A ETag da mesma versão na codificação informada.
+     */
+    static String variant(String eTag, String encoding) {
+        return eTag.substring(0, eTag.length() - 1) + "-" + encoding + "\"";
+    }
+}
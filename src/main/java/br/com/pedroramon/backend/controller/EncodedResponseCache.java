@@ -0,0 +1,217 @@
+package br.com.pedroramon.backend.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.pedroramon.backend.model.IEntity;
+import br.com.pedroramon.backend.service.CachedGenericService;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache das respostas JSON já codificadas de um serviço de dados de referência.
+ *
+ * Guarda os bytes da listagem completa e de cada entidade, em JSON e em gzip,
+ * junto com suas ETags. As respostas são escritas direto no corpo, apenas
+ * envolvendo os bytes em um {@link DataBuffer}, sem consulta, conversão para
+ * DTO ou codificação por requisição. Como os endpoints que o usam também
+ * negociam CBOR e Smile, as respostas variam por {@code Accept} e por
+ * {@code Accept-Encoding}.
+ *
+ * O cache é descartado e refeito sempre que o serviço notifica uma escrita
+ * ({@link CachedGenericService#addChangeListener(Runnable)}). A troca é
+ * atômica: uma requisição encontra o conteúdo anterior completo, nenhum
+ * conteúdo (e monta o seu) ou o novo conteúdo completo, nunca uma mistura.
+ * Alterações feitas fora desta instância não são notificadas, então o
+ * conteúdo também é refeito depois do mesmo tempo de vida do cache de dados
+ * de referência.
+ *
+ * @param <T> O tipo da entidade do serviço.
+ */
+public class EncodedResponseCache<T extends IEntity> {
+
+    private static final Logger log = LoggerFactory.getLogger(EncodedResponseCache.class);
+    private static final String GZIP = "gzip";
+    private static final String ANY_CODING = "*";
+
+    private final CachedGenericService<T> service;
+    private final Function<T, ?> toDto;
+    private final ObjectMapper objectMapper;
+    private final Duration timeToLive;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param service O serviço que fornece as entidades e notifica suas alterações.
+     * @param toDto A conversão das entidades para os DTOs expostos pela API.
+     * @param objectMapper O {@link ObjectMapper} usado pela aplicação para escrever JSON.
+     * @param timeToLive Tempo de vida do conteúdo codificado após ser montado.
+     */
+    public EncodedResponseCache(CachedGenericService<T> service, Function<T, ?> toDto, ObjectMapper objectMapper,
+                                Duration timeToLive) {
+        this.service = service;
+        this.toDto = toDto;
+        this.objectMapper = objectMapper;
+        this.timeToLive = timeToLive;
+        service.addChangeListener(this::rebuild);
+    }
+
+    /**
+     * @param request A requisição, para escolher entre JSON e gzip.
+     * @return A resposta com a listagem completa.
+     */
+    Mono<ResponseEntity<?>> all(ServerHttpRequest request) {
+        return current().map(current -> respond(current.all(), request));
+    }
+
+    /**
+     * @param id O ID da entidade.
+     * @param request A requisição, para escolher entre JSON e gzip.
+     * @return A resposta com a entidade, ou vazio se ela não estiver no cache.
+     */
+    Mono<ResponseEntity<?>> byId(Long id, ServerHttpRequest request) {
+        return current().mapNotNull(current -> {
+            Encoded encoded = current.byId().get(id);
+            return encoded == null ? null : respond(encoded, request);
+        });
+    }
+
+    private Mono<Snapshot> current() {
+        Snapshot current = snapshot.get();
+        return current != null && !isExpired(current) ? Mono.just(current) : load();
+    }
+
+    private boolean isExpired(Snapshot current) {
+        return System.nanoTime() - current.loadedAtNanos() > timeToLive.toNanos();
+    }
+
+    /**
+     * Descarta o conteúdo atual e começa a montar o novo, chamado a cada
+     * escrita do serviço.
+     */
+    private void rebuild() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+        load().subscribe(
+                built -> log.debug("Respostas de {} recodificadas", service.getClass().getSimpleName()),
+                ex -> log.warn("Falha ao recodificar as respostas de {}: {}",
+                        service.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    private Mono<Snapshot> load() {
+        long loadGeneration = generation.get();
+        return service.findAll()
+                .collectList()
+                .map(items -> encode(items, loadGeneration))
+                .doOnNext(built -> snapshot.accumulateAndGet(built, (current, candidate) ->
+                        candidate.generation() == generation.get()
+                                && (current == null || current.generation() < candidate.generation()
+                                        || current.loadedAtNanos() - candidate.loadedAtNanos() < 0)
+                                ? candidate : current));
+    }
+
+    private Snapshot encode(List<T> items, long loadGeneration) {
+        List<Object> dtos = new ArrayList<>(items.size());
+        Map<Long, Encoded> byId = new HashMap<>();
+        for (T item : items) {
+            Object dto = toDto.apply(item);
+            dtos.add(dto);
+            byId.put(item.getId(), encoded(toJson(dto), ETags.of(item)));
+        }
+        return new Snapshot(loadGeneration, System.nanoTime(), encoded(toJson(dtos), ETags.ofCollection(items)), Map.copyOf(byId));
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Encoded encoded(byte[] json, String eTag) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        // Representações com codificações diferentes precisam de ETags fortes diferentes.
+        String gzipETag = ETags.variant(eTag, "gz");
+        return new Encoded(json, eTag, out.toByteArray(), gzipETag);
+    }
+
+    private static ResponseEntity<?> respond(Encoded encoded, ServerHttpRequest request) {
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .eTag(encoded.gzipETag())
+                    .body(DefaultDataBufferFactory.sharedInstance.wrap(encoded.gzip()));
+        }
+        return response.eTag(encoded.eTag())
+                .body(DefaultDataBufferFactory.sharedInstance.wrap(encoded.json()));
+    }
+
+    /**
+     * Segue as regras do {@code Accept-Encoding}: o gzip citado pelo nome vale
+     * pela sua qualidade; sem ele, vale a qualidade do curinga {@code *}; e
+     * qualidade zero recusa a codificação.
+     */
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        double gzipQuality = -1;
+        double anyQuality = -1;
+        for (String header : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim();
+                if (name.equalsIgnoreCase(GZIP)) {
+                    gzipQuality = Math.max(gzipQuality, quality(parts));
+                } else if (name.equals(ANY_CODING)) {
+                    anyQuality = Math.max(anyQuality, quality(parts));
+                }
+            }
+        }
+        return gzipQuality >= 0 ? gzipQuality > 0 : anyQuality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private record Encoded(byte[] json, String eTag, byte[] gzip, String gzipETag) {}
+
+    private record Snapshot(long generation, long loadedAtNanos, Encoded all, Map<Long, Encoded> byId) {}
+}
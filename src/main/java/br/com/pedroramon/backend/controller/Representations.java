@@ -0,0 +1,70 @@
+package br.com.pedroramon.backend.controller;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import br.com.pedroramon.backend.config.BinaryCodecConfig;
+
+/**
+ * Escolha entre o JSON e as codificações binárias (CBOR, Smile) nos endpoints
+ * que devolvem ETag.
+ *
+ * Representações com codificações diferentes precisam de ETags fortes
+ * diferentes, então esses endpoints decidem a codificação antes de montar a
+ * resposta, seguindo a mesma preferência do Spring: os tipos do {@code Accept}
+ * em ordem de qualidade, com o JSON à frente em curingas como {@code *}{@code /*}.
+ * Tipos com qualidade zero são recusados e nunca escolhidos. A codificação
+ * escolhida é fixada no {@code Content-Type} da resposta, e toda resposta
+ * desses endpoints, inclusive em JSON, traz {@code Vary: Accept}.
+ */
+final class Representations {
+
+    private Representations() {
+    }
+
+    /**
+     * @param request A requisição.
+     * @return A codificação binária pedida, ou {@code null} para JSON.
+     */
+    static MediaType binary(ServerHttpRequest request) {
+        List<MediaType> accepted = new ArrayList<>(request.getHeaders().getAccept());
+        accepted.removeIf(mediaType -> mediaType.getQualityValue() == 0);
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                    || mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return null;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+            if (mediaType.isCompatibleWith(BinaryCodecConfig.APPLICATION_SMILE)) {
+                return BinaryCodecConfig.APPLICATION_SMILE;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Monta o início de uma resposta 200 na codificação informada.
+     *
+     * @param binary A codificação binária, ou {@code null} para JSON.
+     * @param eTag A ETag da representação em JSON.
+     * @return A resposta com a ETag da codificação, o {@code Vary: Accept} e,
+     *         se binária, o {@code Content-Type} fixado.
+     */
+    static ResponseEntity.BodyBuilder ok(MediaType binary, String eTag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (binary == null) {
+            return response.eTag(eTag);
+        }
+        String encoding = binary.equals(MediaType.APPLICATION_CBOR) ? "cbor" : "smile";
+        return response.contentType(binary).eTag(ETags.variant(eTag, encoding));
+    }
+}
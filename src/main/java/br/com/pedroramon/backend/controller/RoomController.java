@@ -1,47 +1,219 @@
 package br.com.pedroramon.backend.controller;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.pedroramon.backend.config.BinaryCodecConfig;
+import br.com.pedroramon.backend.config.RoomBatchProperties;
+import br.com.pedroramon.backend.config.RoomChangesProperties;
+import br.com.pedroramon.backend.config.RoomPagingProperties;
+import br.com.pedroramon.backend.dto.RoomBatchItemDTO;
+import br.com.pedroramon.backend.dto.RoomBatchResultDTO;
+import br.com.pedroramon.backend.dto.RoomChangesDTO;
 import br.com.pedroramon.backend.dto.RoomDTO;
+import br.com.pedroramon.backend.dto.RoomEventDTO;
+import br.com.pedroramon.backend.dto.RoomFieldsDTO;
+import br.com.pedroramon.backend.dto.RoomPatchDTO;
 import br.com.pedroramon.backend.dto.interfaces.OnUpdate;
+import br.com.pedroramon.backend.exception.ResourceNotFoundException;
 import br.com.pedroramon.backend.mapper.MapperFactory;
+import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.repository.RoomPatch;
+import br.com.pedroramon.backend.repository.RoomProjection;
+import br.com.pedroramon.backend.repository.RoomSearchCriteria;
+import br.com.pedroramon.backend.repository.RoomSort;
+import br.com.pedroramon.backend.service.BatchOutcome;
+import br.com.pedroramon.backend.service.RoomEvent;
 import br.com.pedroramon.backend.service.RoomService;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/rooms")
 public class RoomController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final RoomService roomService;
     private final MapperFactory mapperFactory;
+    private final RoomPagingProperties pagingProperties;
+    private final RoomBatchProperties batchProperties;
+    private final RoomChangesProperties changesProperties;
+    private final Validator validator;
 
     @Autowired
-    public RoomController(RoomService roomService,MapperFactory mapperFactory) {
+    public RoomController(RoomService roomService,MapperFactory mapperFactory, RoomPagingProperties pagingProperties,
+                          RoomBatchProperties batchProperties, RoomChangesProperties changesProperties,
+                          Validator validator) {
         this.roomService = roomService;
         this.mapperFactory = mapperFactory;
+        this.pagingProperties = pagingProperties;
+        this.batchProperties = batchProperties;
+        this.changesProperties = changesProperties;
+        this.validator = validator;
+    }
+
+    @GetMapping(params = {"!fields", "!expand"},
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                            MediaType.APPLICATION_CBOR_VALUE, BinaryCodecConfig.APPLICATION_SMILE_VALUE})
+    public Mono<ResponseEntity<Flux<RoomDTO>>> getAll(@RequestParam(required = false) Long after,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      ServerHttpRequest request){
+        if (after != null || limit != null) {
+            return getPage(after, limit);
+        }
+        boolean ndjson = acceptsNdjson(request);
+        Flux<Room> rooms = ndjson
+                ? this.roomService.streamAll(this.pagingProperties.streamFetchSize())
+                : this.roomService.findAll();
+        MediaType binary = Representations.binary(request);
+        return this.roomService.findCollectionVersion()
+                .map(version -> ndjson ? ETags.variant(ETags.of(version), "ndjson") : ETags.of(version))
+                .map(eTag -> Representations.ok(binary, eTag)
+                        .body(rooms.map(this.mapperFactory.getRoomMapper()::toDto)));
+    }
+
+    // Com fields ou expand: uma única consulta com apenas as colunas pedidas. Não há
+    // ETag, pois o resumo da coleção custaria uma segunda consulta.
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE,
+                            MediaType.APPLICATION_CBOR_VALUE, BinaryCodecConfig.APPLICATION_SMILE_VALUE})
+    public Mono<ResponseEntity<Flux<RoomFieldsDTO>>> getFields(@RequestParam(required = false) Long after,
+                                                              @RequestParam(required = false) Integer limit,
+                                                              @RequestParam(required = false) String fields,
+                                                              @RequestParam(required = false) String expand) {
+        RoomProjection projection;
+        try {
+            projection = RoomProjection.parse(fields, expand);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(ex);
+        }
+        if (after == null && limit == null) {
+            return Mono.just(ResponseEntity.ok().body(this.roomService.findProjected(projection, null, null)
+                    .map(room -> toFieldsDto(room, projection))));
+        }
+        int pageSize = limit == null ? this.pagingProperties.defaultLimit() : limit;
+        if (pageSize < 1 || pageSize > this.pagingProperties.maxLimit()) {
+            return Mono.error(invalidLimit());
+        }
+        if (after != null && after < 0) {
+            return Mono.error(new IllegalArgumentException("O parâmetro after não pode ser negativo"));
+        }
+        return this.roomService.findProjected(projection, after, pageSize)
+                .collectList()
+                .map(page -> {
+                    var response = ResponseEntity.ok();
+                    if (page.size() == pageSize) {
+                        response.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).getId()));
+                    }
+                    return response.body(Flux.fromIterable(page).map(room -> toFieldsDto(room, projection)));
+                });
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Flux<RoomDTO>>> search(@RequestParam(required = false) Long statusRoomId,
+                                                      @RequestParam(required = false) Long typeRoomId,
+                                                      @RequestParam(required = false) BigDecimal minDailyRate,
+                                                      @RequestParam(required = false) BigDecimal maxDailyRate,
+                                                      @RequestParam(required = false) Integer minRoomNumber,
+                                                      @RequestParam(required = false) Integer maxRoomNumber,
+                                                      @RequestParam(required = false) String sort,
+                                                      @RequestParam(required = false) String after,
+                                                      @RequestParam(required = false) Integer limit) {
+        int pageSize = limit == null ? this.pagingProperties.defaultLimit() : limit;
+        if (pageSize < 1 || pageSize > this.pagingProperties.maxLimit()) {
+            return Mono.error(invalidLimit());
+        }
+        RoomSort roomSort;
+        try {
+            roomSort = RoomSort.parse(sort);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(ex);
+        }
+        var criteria = new RoomSearchCriteria(statusRoomId, typeRoomId, minDailyRate, maxDailyRate,
+                minRoomNumber, maxRoomNumber);
+        return this.roomService.search(criteria, roomSort, after, pageSize)
+                .collectList()
+                .map(page -> {
+                    var response = ResponseEntity.ok();
+                    if (page.size() == pageSize) {
+                        response.header(NEXT_CURSOR_HEADER, roomSort.encodeCursor(page.get(page.size() - 1)));
+                    }
+                    return response.body(Flux.fromIterable(this.mapperFactory.getRoomMapper().toDtoList(page)));
+                });
+    }
+
+    @GetMapping(value = "/stream", produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RoomEventDTO> stream() {
+        return this.roomService.watch(this.pagingProperties.streamFetchSize()).map(this::toEventDto);
     }
 
-    @GetMapping
-    public Flux<RoomDTO> getAll(){
-        return this.roomService.findAll().map(this.mapperFactory.getRoomMapper()::toDto);
+    @GetMapping("/changes")
+    public Mono<RoomChangesDTO> getChanges(@RequestParam(required = false) String since) {
+        return Mono.defer(() -> {
+            LocalDateTime from = since == null ? null : ChangeCursor.decode(since);
+            String next = ChangeCursor.encode(LocalDateTime.now().minus(this.changesProperties.overlap()));
+            Flux<Room> changed = from == null ? this.roomService.findAll() : this.roomService.findChangedSince(from);
+            Flux<Long> deleted = from == null ? Flux.empty() : this.roomService.findDeletedSince(from);
+            return Mono.zip(changed.collectList().map(this.mapperFactory.getRoomMapper()::toDtoList), deleted.collectList())
+                    .map(changes -> new RoomChangesDTO(changes.getT1(), changes.getT2(), next));
+        });
+    }
+
+    @GetMapping(value = "/{id}", params = {"!fields", "!expand"})
+    public Mono<ResponseEntity<Mono<RoomDTO>>> findById(@PathVariable Long id, ServerHttpRequest request) {
+        // Sem If-None-Match, a ETag vem do quarto, tipo e status já carregados. O resumo
+        // de versões só é consultado nas requisições condicionais, que podem terminar
+        // em 304 sem carregar o quarto.
+        MediaType binary = Representations.binary(request);
+        if (request.getHeaders().getIfNoneMatch().isEmpty()) {
+            return roomService.findById(id)
+                    .map(room -> Representations.ok(binary, ETags.of(room, room.getTypeRoom(), room.getStatusRoom()))
+                            .body(Mono.fromSupplier(() -> this.mapperFactory.getRoomMapper().toDto(room))));
+        }
+        return roomService.findVersionById(id)
+                .map(version -> Representations.ok(binary, ETags.of(version))
+                        .body(Mono.defer(() -> roomService.findById(id)).map(this.mapperFactory.getRoomMapper()::toDto)))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Object not found with id: " + id)));
     }
 
     @GetMapping("/{id}")
-    public Mono<RoomDTO> findById(@PathVariable Long id) {
-        return roomService.findById(id)
-                   .map(this.mapperFactory.getRoomMapper()::toDto);
+    public Mono<RoomFieldsDTO> findFieldsById(@PathVariable Long id,
+                                              @RequestParam(required = false) String fields,
+                                              @RequestParam(required = false) String expand) {
+        RoomProjection projection;
+        try {
+            projection = RoomProjection.parse(fields, expand);
+        } catch (IllegalArgumentException ex) {
+            return Mono.error(ex);
+        }
+        return roomService.findProjectedById(id, projection)
+                .map(room -> toFieldsDto(room, projection));
     }
 
     @PostMapping
@@ -59,9 +231,145 @@ public class RoomController {
         return ResponseEntity.status(HttpStatus.OK).body(romResponse);
     }
 
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<RoomBatchResultDTO> createBatch(@RequestBody Flux<RoomDTO> request) {
+        return processBatch(request, Default.class, "CREATED", this.roomService::saveAll);
+    }
+
+    @PutMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<RoomBatchResultDTO> updateBatch(@RequestBody Flux<RoomDTO> request) {
+        return processBatch(request, OnUpdate.class, "UPDATED", this.roomService::updateAll);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    public Mono<RoomDTO> patch(@PathVariable Long id, @Valid @RequestBody RoomPatchDTO request) {
+        var patch = new RoomPatch(request.roomNumber(), request.dailyRate(), request.typeRoomId(),
+                request.statusRoomId(), request.version());
+        return roomService.patch(id, patch)
+                .map(this.mapperFactory.getRoomMapper()::toDto);
+    }
+
+    @PutMapping("/{id}/status/{statusRoomId}")
+    public Mono<RoomDTO> updateStatus(@PathVariable Long id, @PathVariable Long statusRoomId,
+                                      @RequestParam(required = false) Long version) {
+        return roomService.updateStatus(id, statusRoomId, version)
+                .map(this.mapperFactory.getRoomMapper()::toDto);
+    }
+
+    @PutMapping("/status/{statusRoomId}")
+    public Mono<RoomBatchResultDTO> updateStatusBatch(@PathVariable Long statusRoomId, @RequestBody List<Long> ids) {
+        int maxSize = this.batchProperties.maxSize();
+        if (ids.size() > maxSize) {
+            return Mono.error(new IllegalArgumentException("O lote deve conter no máximo " + maxSize + " quartos"));
+        }
+        if (ids.isEmpty()) {
+            return Mono.just(new RoomBatchResultDTO(0, 0, 0, List.of()));
+        }
+        return roomService.updateStatusAll(ids, statusRoomId)
+                .map(outcomes -> toBatchResult(new String[ids.size()], outcomes, "UPDATED"));
+    }
+
     @DeleteMapping("/{id}")
     public Mono<Void> delete(@PathVariable Long id) {
         return roomService.delete(id);
     }
 
+    private Mono<ResponseEntity<Flux<RoomDTO>>> getPage(Long after, Integer limit) {
+        int pageSize = limit == null ? this.pagingProperties.defaultLimit() : limit;
+        if (pageSize < 1 || pageSize > this.pagingProperties.maxLimit()) {
+            return Mono.error(invalidLimit());
+        }
+        if (after != null && after < 0) {
+            return Mono.error(new IllegalArgumentException("O parâmetro after não pode ser negativo"));
+        }
+        return this.roomService.findPage(after, pageSize)
+                .collectList()
+                .map(this.mapperFactory.getRoomMapper()::toDtoList)
+                .map(page -> {
+                    var response = ResponseEntity.ok();
+                    if (page.size() == pageSize) {
+                        response.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).id()));
+                    }
+                    return response.body(Flux.fromIterable(page));
+                });
+    }
+
+    private Mono<RoomBatchResultDTO> processBatch(Flux<RoomDTO> request, Class<?> group, String successStatus,
+                                                  Function<List<Room>, Mono<List<BatchOutcome<Room>>>> operation) {
+        int maxSize = this.batchProperties.maxSize();
+        return request.take(maxSize + 1L).collectList().flatMap(items -> {
+            if (items.size() > maxSize) {
+                return Mono.error(new IllegalArgumentException("O lote deve conter no máximo " + maxSize + " quartos"));
+            }
+            String[] violations = new String[items.size()];
+            List<Room> validRooms = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                violations[i] = describeViolations(this.validator.validate(items.get(i), group));
+                if (violations[i] == null) {
+                    validRooms.add(this.mapperFactory.getRoomMapper().toEntity(items.get(i)));
+                }
+            }
+            Mono<List<BatchOutcome<Room>>> outcomes = validRooms.isEmpty()
+                    ? Mono.just(List.of())
+                    : operation.apply(validRooms);
+            return outcomes.map(results -> toBatchResult(violations, results, successStatus));
+        });
+    }
+
+    private RoomBatchResultDTO toBatchResult(String[] violations, List<BatchOutcome<Room>> outcomes, String successStatus) {
+        List<RoomBatchItemDTO> items = new ArrayList<>(violations.length);
+        int succeeded = 0;
+        int next = 0;
+        for (int i = 0; i < violations.length; i++) {
+            if (violations[i] != null) {
+                items.add(new RoomBatchItemDTO(i, "FAILED", null, violations[i]));
+                continue;
+            }
+            BatchOutcome<Room> outcome = outcomes.get(next++);
+            if (outcome.isSuccess()) {
+                succeeded++;
+                items.add(new RoomBatchItemDTO(i, successStatus, this.mapperFactory.getRoomMapper().toDto(outcome.entity()), null));
+            } else {
+                items.add(new RoomBatchItemDTO(i, "FAILED", null, outcome.error()));
+            }
+        }
+        return new RoomBatchResultDTO(violations.length, succeeded, violations.length - succeeded, items);
+    }
+
+    private static String describeViolations(Set<ConstraintViolation<RoomDTO>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private RoomEventDTO toEventDto(RoomEvent event) {
+        RoomDTO room = event.room() == null ? null : this.mapperFactory.getRoomMapper().toDto(event.room());
+        return new RoomEventDTO(event.type().name(), event.roomId(), room);
+    }
+
+    private RoomFieldsDTO toFieldsDto(Room room, RoomProjection projection) {
+        return new RoomFieldsDTO(
+                projection.includes(RoomProjection.Field.ID) ? room.getId() : null,
+                room.getRoomNumber(),
+                room.getDailyRate(),
+                projection.includes(RoomProjection.Field.TYPE_ROOM_ID) ? room.getTypeRoomId() : null,
+                projection.includes(RoomProjection.Field.STATUS_ROOM_ID) ? room.getStatusRoomId() : null,
+                room.getTypeRoom() == null ? null : this.mapperFactory.getTypeRoomMapper().toDto(room.getTypeRoom()),
+                room.getStatusRoom() == null ? null : this.mapperFactory.getStatusRoomMapper().toDto(room.getStatusRoom()),
+                room.getVersion());
+    }
+
+    private IllegalArgumentException invalidLimit() {
+        return new IllegalArgumentException("O parâmetro limit deve estar entre 1 e " + this.pagingProperties.maxLimit());
+    }
+
+    private static boolean acceptsNdjson(ServerHttpRequest request) {
+        return request.getHeaders().getAccept().stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
 }
@@ -1,8 +1,11 @@
 package br.com.pedroramon.backend.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,9 +16,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.pedroramon.backend.config.BinaryCodecConfig;
 import br.com.pedroramon.backend.dto.StatusRoomDTO;
 import br.com.pedroramon.backend.dto.interfaces.OnUpdate;
 import br.com.pedroramon.backend.mapper.MapperFactory;
+import br.com.pedroramon.backend.model.StatusRoom;
 import br.com.pedroramon.backend.service.StatusRoomService;
 import jakarta.validation.Valid;
 import reactor.core.publisher.Flux;
@@ -43,27 +48,46 @@ public class StatusRoomController {
 
     private final StatusRoomService statusRoomService;
     private final MapperFactory mapperFactory;
+    private final EncodedResponseCache<StatusRoom> responseCache;
 
     /**
      * Construtor para injetar o serviço de manipulação do status dos quartos.
      * 
      * @param statusRoomService Serviço para operações CRUD de status de quartos.
+     * @param responseCache Cache das respostas já codificadas, quando configurado.
      */
     @Autowired
-    public StatusRoomController(StatusRoomService statusRoomService, MapperFactory mapperFactory) {
+    public StatusRoomController(StatusRoomService statusRoomService, MapperFactory mapperFactory,
+                                ObjectProvider<EncodedResponseCache<StatusRoom>> responseCache) {
         this.statusRoomService = statusRoomService;
         this.mapperFactory = mapperFactory;
+        this.responseCache = responseCache.getIfAvailable();
     }
 
     /**
      * Recupera todos os status de quartos.
      * 
+     * Com o {@link EncodedResponseCache} configurado, a resposta é o JSON (ou
+     * gzip) já codificado; sem ele, a lista vem do cache de dados de referência
+     * e é codificada a cada requisição. Em ambos os casos a resposta traz a ETag
+     * da coleção e, com {@code If-None-Match} igual, é um 304.
+     * 
+     * Em CBOR e Smile a lista é sempre codificada na requisição; veja
+     * {@link TypeRoomController#getAll}.
+     * 
      * @return Um fluxo (Flux) de objetos StatusRoomDTO representando todos os
      *         status dos quartos.
      */
-    @GetMapping
-    public Flux<StatusRoomDTO> getAllStatusRooms() {
-        return statusRoomService.findAll().map(this.mapperFactory.getStatusRoomMapper()::toDto);
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                            BinaryCodecConfig.APPLICATION_SMILE_VALUE})
+    public Mono<ResponseEntity<?>> getAllStatusRooms(ServerHttpRequest request) {
+        MediaType binary = Representations.binary(request);
+        if (responseCache != null && binary == null) {
+            return responseCache.all(request);
+        }
+        return statusRoomService.findAll().collectList()
+                .map(items -> Representations.ok(binary, ETags.ofCollection(items))
+                        .body(Flux.fromIterable(items).map(this.mapperFactory.getStatusRoomMapper()::toDto)));
     }
 
     /**
@@ -73,10 +97,19 @@ public class StatusRoomController {
      * @return Um Mono de StatusRoomDTO representando o status de quarto com o ID
      *         especificado.
      */
-    @GetMapping("/{id}")
-    public Mono<StatusRoomDTO> findById(@PathVariable Long id) {
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                            BinaryCodecConfig.APPLICATION_SMILE_VALUE})
+    public Mono<ResponseEntity<?>> findById(@PathVariable Long id, ServerHttpRequest request) {
+        MediaType binary = Representations.binary(request);
+        Mono<ResponseEntity<?>> cached = responseCache != null && binary == null
+                ? responseCache.byId(id, request) : Mono.empty();
+        return cached.switchIfEmpty(Mono.defer(() -> findByIdUncached(id, binary)));
+    }
+
+    private Mono<ResponseEntity<?>> findByIdUncached(Long id, MediaType binary) {
         return statusRoomService.findById(id)
-                .map(this.mapperFactory.getStatusRoomMapper()::toDto);
+                .map(entity -> Representations.ok(binary, ETags.of(entity))
+                        .body(Mono.fromSupplier(() -> this.mapperFactory.getStatusRoomMapper().toDto(entity))));
     }
 
     /**
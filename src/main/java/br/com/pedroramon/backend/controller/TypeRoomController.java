@@ -1,7 +1,10 @@
 package br.com.pedroramon.backend.controller;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,8 +14,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.pedroramon.backend.config.BinaryCodecConfig;
 import br.com.pedroramon.backend.dto.TypeRoomDTO;
 import br.com.pedroramon.backend.mapper.MapperFactory;
+import br.com.pedroramon.backend.model.TypeRoom;
 import br.com.pedroramon.backend.service.TypeRoomService;
 import jakarta.validation.Valid;
 import reactor.core.publisher.Flux;
@@ -40,26 +45,45 @@ public class TypeRoomController {
 
     private final TypeRoomService service;
     private final MapperFactory mapperFactory;
+    private final EncodedResponseCache<TypeRoom> responseCache;
 
     /**
      * Construtor para injetar o serviço de manipulação de tipos de quartos.
      * 
      * @param typeRoomService Serviço para operações CRUD de tipos de quartos.
+     * @param responseCache Cache das respostas já codificadas, quando configurado.
      */
-    public TypeRoomController(TypeRoomService typeRoomService, MapperFactory mapperFactory) {
+    public TypeRoomController(TypeRoomService typeRoomService, MapperFactory mapperFactory,
+                              ObjectProvider<EncodedResponseCache<TypeRoom>> responseCache) {
         this.service = typeRoomService;
         this.mapperFactory = mapperFactory;
+        this.responseCache = responseCache.getIfAvailable();
     }
 
     /**
      * Recupera todos os tipos de quartos.
      * 
+     * Com o {@link EncodedResponseCache} configurado, a resposta é o JSON (ou
+     * gzip) já codificado; sem ele, a lista vem do cache de dados de referência
+     * e é codificada a cada requisição. Em ambos os casos a resposta traz a ETag
+     * da coleção e, com {@code If-None-Match} igual, é um 304.
+     * 
+     * Pedidos em CBOR ou Smile não passam pelo {@link EncodedResponseCache},
+     * que guarda apenas JSON, e recebem uma ETag própria da codificação.
+     * 
      * @return Um fluxo (Flux) de objetos TypeRomResponse representando todos os
      *         tipos de quartos.
      */
-    @GetMapping
-    public Flux<TypeRoomDTO> getAll() {
-        return service.findAll().map(this.mapperFactory.getTypeRoomMapper()::toDto);
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                            BinaryCodecConfig.APPLICATION_SMILE_VALUE})
+    public Mono<ResponseEntity<?>> getAll(ServerHttpRequest request) {
+        MediaType binary = Representations.binary(request);
+        if (responseCache != null && binary == null) {
+            return responseCache.all(request);
+        }
+        return service.findAll().collectList()
+                .map(items -> Representations.ok(binary, ETags.ofCollection(items))
+                        .body(Flux.fromIterable(items).map(this.mapperFactory.getTypeRoomMapper()::toDto)));
     }
 
     /**
@@ -69,10 +93,19 @@ public class TypeRoomController {
      * @return Um Mono de TypeRomResponse representando o tipo de quarto com o ID
      *         especificado.
      */
-    @GetMapping("/{id}")
-    public Mono<TypeRoomDTO> findById(@PathVariable Long id) {
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                            BinaryCodecConfig.APPLICATION_SMILE_VALUE})
+    public Mono<ResponseEntity<?>> findById(@PathVariable Long id, ServerHttpRequest request) {
+        MediaType binary = Representations.binary(request);
+        Mono<ResponseEntity<?>> cached = responseCache != null && binary == null
+                ? responseCache.byId(id, request) : Mono.empty();
+        return cached.switchIfEmpty(Mono.defer(() -> findByIdUncached(id, binary)));
+    }
+
+    private Mono<ResponseEntity<?>> findByIdUncached(Long id, MediaType binary) {
         return service.findById(id)
-                .map(this.mapperFactory.getTypeRoomMapper()::toDto);
+                .map(entity -> Representations.ok(binary, ETags.of(entity))
+                        .body(Mono.fromSupplier(() -> this.mapperFactory.getTypeRoomMapper().toDto(entity))));
     }
 
     /**
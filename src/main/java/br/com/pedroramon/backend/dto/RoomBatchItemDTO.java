@@ -0,0 +1,16 @@
+package br.com.pedroramon.backend.dto;
+
+/**
+ * Resultado de um item de um lote de quartos.
+ *
+ * @param index Posição do item no lote enviado, começando em zero.
+ * @param status {@code CREATED} ou {@code UPDATED} em caso de sucesso, {@code FAILED} em caso de erro.
+ * @param room O quarto gravado, presente apenas em caso de sucesso.
+ * @param error A mensagem de erro, presente apenas em caso de falha.
+ */
+public record RoomBatchItemDTO(
+    int index,
+    String status,
+    RoomDTO room,
+    String error
+) {}
@@ -0,0 +1,18 @@
+package br.com.pedroramon.backend.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de uma criação ou atualização de quartos em lote.
+ *
+ * @param total Quantidade de itens recebidos.
+ * @param succeeded Quantidade de itens gravados.
+ * @param failed Quantidade de itens com erro.
+ * @param items O resultado de cada item, na ordem em que foram enviados.
+ */
+public record RoomBatchResultDTO(
+    int total,
+    int succeeded,
+    int failed,
+    List<RoomBatchItemDTO> items
+) {}
@@ -0,0 +1,16 @@
+package br.com.pedroramon.backend.dto;
+
+import java.util.List;
+
+/**
+ * Alterações de quartos desde um cursor de sincronização.
+ *
+ * @param changed Quartos criados ou alterados desde o cursor.
+ * @param deleted IDs dos quartos excluídos desde o cursor.
+ * @param cursor Cursor a ser enviado na próxima sincronização.
+ */
+public record RoomChangesDTO(
+    List<RoomDTO> changed,
+    List<Long> deleted,
+    String cursor
+) {}
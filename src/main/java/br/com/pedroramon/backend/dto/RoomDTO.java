@@ -1,6 +1,9 @@
 package br.com.pedroramon.backend.dto;
 
 import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
 import br.com.pedroramon.backend.dto.interfaces.OnUpdate;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Null;
@@ -17,6 +20,9 @@ import jakarta.validation.groups.Default;
  * dados recebidos estejam em conformidade com as regras de negócio durante
  * a operação de atualização.</p>
  * 
+ * <p>A ordem dos campos é fixa e a mesma em JSON, CBOR e Smile; campos novos
+ * devem entrar no fim da lista de {@link JsonPropertyOrder}.</p>
+ * 
  * @param id Identificador único do quarto. Este campo deve ser nulo durante
  *           a criação de um novo quarto e não deve ser nulo durante a
  *           atualização.
@@ -32,10 +38,16 @@ import jakarta.validation.groups.Default;
  *                 quarto associado.
  * @param statusRoom Objeto {@link StatusRoomResponse} representando o
  *                   status do quarto associado.
+ * @param version Versão do quarto usada no controle de concorrência otimista.
+ *                Deve ser nula na criação, pois uma versão preenchida faria
+ *                o Spring Data tratar o quarto como existente. Quando
+ *                informada na atualização, a escrita só ocorre se o
+ *                quarto não tiver sido alterado desde a leitura.
  * 
  * @see TypeRomResponse
  * @see StatusRoomResponse
  */
+@JsonPropertyOrder({"id", "roomNumber", "dailyRate", "typeRoomId", "statusRoomId", "typeRoom", "statusRoom", "version"})
 public record RoomDTO(
     @Null(groups = Default.class)
     @NotNull(groups = OnUpdate.class)
@@ -59,5 +71,14 @@ public record RoomDTO(
     Long statusRoomId,
     
     TypeRoomDTO typeRoom,
-    StatusRoomDTO statusRoom
-) {}
+    StatusRoomDTO statusRoom,
+
+    @Null(groups = Default.class)
+    @PositiveOrZero(groups = OnUpdate.class)
+    Long version
+) {
+    public RoomDTO(Long id, Integer roomNumber, BigDecimal dailyRate, Long typeRoomId, Long statusRoomId,
+                   TypeRoomDTO typeRoom, StatusRoomDTO statusRoom) {
+        this(id, roomNumber, dailyRate, typeRoomId, statusRoomId, typeRoom, statusRoom, null);
+    }
+}
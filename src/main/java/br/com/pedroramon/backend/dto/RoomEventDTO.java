@@ -0,0 +1,14 @@
+package br.com.pedroramon.backend.dto;
+
+/**
+ * Evento do fluxo de quartos ({@code GET /api/rooms/stream}).
+ *
+ * @param type O tipo do evento: {@code SNAPSHOT}, {@code CREATED}, {@code UPDATED} ou {@code DELETED}.
+ * @param roomId O ID do quarto.
+ * @param room O estado do quarto, ou {@code null} para exclusões.
+ */
+public record RoomEventDTO(
+    String type,
+    Long roomId,
+    RoomDTO room
+) {}
@@ -0,0 +1,31 @@
+package br.com.pedroramon.backend.dto;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Representação parcial de um quarto, devolvida quando a consulta informa
+ * {@code fields} ou {@code expand}. Apenas os campos pedidos são preenchidos,
+ * e os campos nulos não são serializados.
+ *
+ * @param id Identificador único do quarto.
+ * @param roomNumber Número do quarto.
+ * @param dailyRate Taxa diária do quarto.
+ * @param typeRoomId Identificador do tipo de quarto.
+ * @param statusRoomId Identificador do status do quarto.
+ * @param typeRoom O tipo do quarto, quando expandido.
+ * @param statusRoom O status do quarto, quando expandido.
+ * @param version Versão do quarto.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RoomFieldsDTO(
+    Long id,
+    Integer roomNumber,
+    BigDecimal dailyRate,
+    Long typeRoomId,
+    Long statusRoomId,
+    TypeRoomDTO typeRoom,
+    StatusRoomDTO statusRoom,
+    Long version
+) {}
@@ -0,0 +1,45 @@
+package br.com.pedroramon.backend.dto;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Alteração parcial de um quarto ({@code PATCH /api/rooms/{id}}), no formato
+ * JSON Merge Patch (RFC 7396).
+ *
+ * Campos ausentes mantêm o valor atual do quarto e são ignorados pela
+ * validação. Como nenhuma coluna do quarto aceita valores nulos, um campo
+ * enviado como {@code null} é rejeitado na leitura da requisição.
+ *
+ * @param roomNumber Novo número do quarto.
+ * @param dailyRate Nova taxa diária do quarto.
+ * @param typeRoomId Novo identificador do tipo de quarto.
+ * @param statusRoomId Novo identificador do status do quarto.
+ * @param version Versão esperada do quarto. Quando informada, a escrita só
+ *                ocorre se o quarto não tiver sido alterado desde a leitura.
+ */
+public record RoomPatchDTO(
+    @JsonSetter(nulls = Nulls.FAIL)
+    @PositiveOrZero
+    Integer roomNumber,
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @PositiveOrZero
+    BigDecimal dailyRate,
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @PositiveOrZero
+    Long typeRoomId,
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @PositiveOrZero
+    Long statusRoomId,
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @PositiveOrZero
+    Long version
+) {}
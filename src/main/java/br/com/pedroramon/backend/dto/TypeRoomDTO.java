@@ -1,5 +1,7 @@
 package br.com.pedroramon.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
 import br.com.pedroramon.backend.dto.interfaces.OnUpdate;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,11 +9,19 @@ import jakarta.validation.constraints.Null;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.groups.Default;
 
+@JsonPropertyOrder({"id", "name", "version"})
 public record TypeRoomDTO (
     @Null(groups = Default.class)
     @NotNull(groups = OnUpdate.class)
     @PositiveOrZero(groups = OnUpdate.class)
     Long id, 
     @NotBlank(groups = {Default.class, OnUpdate.class})
-    String name
-) {}
+    String name,
+    @Null(groups = Default.class)
+    @PositiveOrZero(groups = OnUpdate.class)
+    Long version
+) {
+    public TypeRoomDTO(Long id, String name) {
+        this(id, name, null);
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.pedroramon.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção personalizada que indica um conflito de concorrência.
+ *
+ * A classe {@code ConflictException} é uma exceção de tempo de execução que é lançada
+ * quando um recurso foi alterado por outra requisição depois de ter sido lido, ou seja,
+ * quando a versão informada não corresponde mais à versão armazenada. Essa exceção é
+ * associada ao status HTTP 409 (Conflict).
+ *
+ * Assim como {@link ResourceNotFoundException}, não registra a pilha de chamadas.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Construtor da classe {@code ConflictException}.
+     *
+     * @param message A mensagem detalhada que descreve a razão pela qual a exceção foi lançada.
+     */
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
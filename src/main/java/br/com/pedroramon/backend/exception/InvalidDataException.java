@@ -8,7 +8,8 @@ package br.com.pedroramon.backend.exception;
  * 
  * Essa exceção pode ser utilizada para sinalizar problemas de validação
  * de dados ou quando os dados não atendem aos critérios necessários
- * para uma operação específica.
+ * para uma operação específica. A pilha de chamadas não é registrada: a
+ * mensagem já descreve o dado recusado.
  */
 public class InvalidDataException extends RuntimeException {
 
@@ -22,6 +23,6 @@ public class InvalidDataException extends RuntimeException {
      *                descrevendo o motivo da invalidez dos dados.
      */
     public InvalidDataException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
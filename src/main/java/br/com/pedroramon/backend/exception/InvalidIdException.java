@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  * A classe {@code InvalidIdException} é uma exceção de tempo de execução que é lançada
  * quando um ID fornecido em uma operação não é válido. Essa exceção é associada ao status
  * HTTP 400 (Bad Request) e pode ser usada para sinalizar erros de entrada do usuário.
+ * A pilha de chamadas não é registrada.
  */
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class InvalidIdException extends RuntimeException {
@@ -19,6 +20,6 @@ public class InvalidIdException extends RuntimeException {
      * @param message A mensagem detalhada que descreve a razão pela qual a exceção foi lançada.
      */
     public InvalidIdException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -9,6 +9,10 @@ import org.springframework.http.HttpStatus;
  * A classe {@code ResourceNotFoundException} é uma exceção de tempo de execução que é lançada
  * quando um recurso solicitado não pode ser encontrado. Essa exceção é associada ao status
  * HTTP 404 (Not Found) e pode ser usada para sinalizar que um recurso não está disponível.
+ *
+ * Por ser um resultado esperado, e não uma falha da aplicação, a exceção não
+ * registra a pilha de chamadas nem aceita exceções suprimidas, o que torna sua
+ * criação barata. A mensagem é a única informação usada na resposta.
  */
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class ResourceNotFoundException extends RuntimeException {
@@ -19,6 +23,6 @@ public class ResourceNotFoundException extends RuntimeException {
      * @param message A mensagem detalhada que descreve a razão pela qual a exceção foi lançada.
      */
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
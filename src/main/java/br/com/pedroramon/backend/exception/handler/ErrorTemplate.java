@@ -0,0 +1,76 @@
+package br.com.pedroramon.backend.exception.handler;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * Corpo de erro pré-codificado para um status HTTP.
+ *
+ * As partes fixas do JSON de {@link br.com.pedroramon.backend.exception.ErrorResponse}
+ * ({@code status} e {@code error}) são codificadas uma única vez; a cada erro
+ * apenas a mensagem e o caminho são escapados e copiados para o corpo, sem
+ * passar pelo {@code ObjectMapper}. O JSON produzido é o mesmo do
+ * {@code ErrorResponse} sem o mapa de erros de validação.
+ */
+final class ErrorTemplate {
+
+    private static final byte[] PATH = "\",\"path\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "\",\"errors\":null}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL_MESSAGE = "null,\"path\":\"".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpStatus status;
+    private final byte[] prefix;
+
+    private ErrorTemplate(HttpStatus status) {
+        this.status = status;
+        this.prefix = ("{\"status\":" + status.value() + ",\"error\":\"" + status.getReasonPhrase() + "\",\"message\":")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    static ErrorTemplate of(HttpStatus status) {
+        return new ErrorTemplate(status);
+    }
+
+    /**
+     * Monta a resposta de erro com a mensagem e o caminho informados.
+     *
+     * @param message A mensagem do erro, possivelmente nula.
+     * @param path O caminho da requisição.
+     * @return A resposta com o corpo JSON já codificado.
+     */
+    ResponseEntity<DataBuffer> render(String message, String path) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        byte[] escapedMessage = message == null ? null : encoder.quoteAsUTF8(message);
+        byte[] escapedPath = encoder.quoteAsUTF8(path);
+
+        int length = prefix.length + escapedPath.length + SUFFIX.length
+                + (escapedMessage == null ? NULL_MESSAGE.length : escapedMessage.length + 1 + PATH.length);
+        byte[] body = new byte[length];
+        int position = append(body, 0, prefix);
+        if (escapedMessage == null) {
+            position = append(body, position, NULL_MESSAGE);
+        } else {
+            body[position++] = '"';
+            position = append(body, position, escapedMessage);
+            position = append(body, position, PATH);
+        }
+        position = append(body, position, escapedPath);
+        append(body, position, SUFFIX);
+
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(DefaultDataBufferFactory.sharedInstance.wrap(body));
+    }
+
+    private static int append(byte[] target, int position, byte[] source) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+}
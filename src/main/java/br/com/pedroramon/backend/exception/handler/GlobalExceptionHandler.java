@@ -1,11 +1,13 @@
 package br.com.pedroramon.backend.exception.handler;
 
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import br.com.pedroramon.backend.exception.ConflictException;
 import br.com.pedroramon.backend.exception.ErrorResponse;
 import br.com.pedroramon.backend.exception.InvalidIdException;
 import br.com.pedroramon.backend.exception.ResourceNotFoundException;
@@ -22,29 +24,46 @@ import java.util.Map;
  * Ela fornece métodos para tratar exceções específicas e gerar respostas
  * adequadas para os clientes, encapsulando as informações de erro em um objeto
  * {@link ErrorResponse}.
+ *
+ * Os erros mais frequentes (recurso não encontrado, conflito e requisição
+ * inválida) são escritos a partir de modelos pré-codificados
+ * ({@link ErrorTemplate}), com o mesmo JSON do {@link ErrorResponse}.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final ErrorTemplate NOT_FOUND = ErrorTemplate.of(HttpStatus.NOT_FOUND);
+    private static final ErrorTemplate CONFLICT = ErrorTemplate.of(HttpStatus.CONFLICT);
+    private static final ErrorTemplate BAD_REQUEST = ErrorTemplate.of(HttpStatus.BAD_REQUEST);
+
     /**
      * Manipula exceções do tipo {@link ResourceNotFoundException}.
      *
      * @param ex A exceção lançada.
      * @param request O objeto {@code ServerHttpRequest} que contém informações
      *                sobre a requisição que causou a exceção.
-     * @return Um {@link Mono} de {@link ResponseEntity} contendo um objeto {@link ErrorResponse}
+     * @return Um {@link Mono} de {@link ResponseEntity} contendo um corpo no formato de {@link ErrorResponse}
      *         com detalhes do erro e o status HTTP 404 (Not Found).
      */
     @ExceptionHandler(ResourceNotFoundException.class)
-    public Mono<ResponseEntity<ErrorResponse>> handleResourceNotFoundException(
+    public Mono<ResponseEntity<DataBuffer>> handleResourceNotFoundException(
             ResourceNotFoundException ex, ServerHttpRequest request) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.NOT_FOUND.value(),
-                HttpStatus.NOT_FOUND.getReasonPhrase(),
-                ex.getMessage(),
-                request.getPath().value()
-        );
-        return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND));
+        return Mono.just(NOT_FOUND.render(ex.getMessage(), request.getPath().value()));
+    }
+
+    /**
+     * Manipula exceções do tipo {@link ConflictException}.
+     *
+     * @param ex A exceção lançada.
+     * @param request O objeto {@code ServerHttpRequest} que contém informações
+     *                sobre a requisição que causou a exceção.
+     * @return Um {@link Mono} de {@link ResponseEntity} contendo um corpo no formato de {@link ErrorResponse}
+     *         com detalhes do erro e o status HTTP 409 (Conflict).
+     */
+    @ExceptionHandler(ConflictException.class)
+    public Mono<ResponseEntity<DataBuffer>> handleConflictException(
+            ConflictException ex, ServerHttpRequest request) {
+        return Mono.just(CONFLICT.render(ex.getMessage(), request.getPath().value()));
     }
 
     /**
@@ -53,19 +72,13 @@ public class GlobalExceptionHandler {
      * @param ex A exceção lançada.
      * @param request O objeto {@code ServerHttpRequest} que contém informações
      *                sobre a requisição que causou a exceção.
-     * @return Um {@link Mono} de {@link ResponseEntity} contendo um objeto {@link ErrorResponse}
+     * @return Um {@link Mono} de {@link ResponseEntity} contendo um corpo no formato de {@link ErrorResponse}
      *         com detalhes do erro e o status HTTP 400 (Bad Request).
      */
     @ExceptionHandler(InvalidIdException.class)
-    public Mono<ResponseEntity<ErrorResponse>> handleInvalidIdException(
+    public Mono<ResponseEntity<DataBuffer>> handleInvalidIdException(
             InvalidIdException ex, ServerHttpRequest request) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                HttpStatus.BAD_REQUEST.getReasonPhrase(),
-                ex.getMessage(),
-                request.getPath().value()
-        );
-        return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST));
+        return Mono.just(BAD_REQUEST.render(ex.getMessage(), request.getPath().value()));
     }
 
     /**
@@ -101,18 +114,12 @@ public class GlobalExceptionHandler {
      * @param ex A exceção lançada.
      * @param request O objeto {@code ServerHttpRequest} que contém informações
      *                sobre a requisição que causou a exceção.
-     * @return Um {@link Mono} de {@link ResponseEntity} contendo um objeto {@link ErrorResponse}
+     * @return Um {@link Mono} de {@link ResponseEntity} contendo um corpo no formato de {@link ErrorResponse}
      *         com detalhes do erro e o status HTTP 400 (Bad Request).
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    public Mono<ResponseEntity<ErrorResponse>> handleIllegalArgumentException(
+    public Mono<ResponseEntity<DataBuffer>> handleIllegalArgumentException(
             IllegalArgumentException ex, ServerHttpRequest request) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                HttpStatus.BAD_REQUEST.value(),
-                HttpStatus.BAD_REQUEST.getReasonPhrase(),
-                ex.getMessage(),
-                request.getPath().value()
-        );
-        return Mono.just(new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST));
+        return Mono.just(BAD_REQUEST.render(ex.getMessage(), request.getPath().value()));
     }
 }
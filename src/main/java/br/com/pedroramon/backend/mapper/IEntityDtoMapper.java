@@ -1,6 +1,26 @@
 package br.com.pedroramon.backend.mapper;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface IEntityDtoMapper<T,D> {
     public D toDto(T entity);
     public T toEntity(D dto);
+
+    /**
+     * Converte uma lista de entidades, criando a lista de DTOs já com o tamanho final.
+     *
+     * @param entities As entidades a serem convertidas.
+     * @return Os DTOs correspondentes, na mesma ordem, ou {@code null} se a lista for nula.
+     */
+    default List<D> toDtoList(List<T> entities) {
+        if (entities == null) {
+            return null;
+        }
+        List<D> dtos = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            dtos.add(toDto(entity));
+        }
+        return dtos;
+    }
 }
@@ -0,0 +1,29 @@
+package br.com.pedroramon.backend.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import br.com.pedroramon.backend.dto.RoomDTO;
+import br.com.pedroramon.backend.model.Room;
+
+/**
+ * Mapeamento entre {@link Room} e {@link RoomDTO}, com a implementação gerada
+ * pelo MapStruct durante a compilação.
+ *
+ * O tipo e o status são convertidos pelos respectivos mapeadores e ficam
+ * nulos no DTO quando não tiverem sido carregados. Na conversão para a
+ * entidade, apenas os IDs do tipo e do status são considerados.
+ */
+@Mapper(uses = {TypeRoomDtoMapper.class, StatusRoomDtoMapper.class})
+public interface RoomDtoMapper extends IEntityDtoMapper<Room, RoomDTO> {
+
+    @Override
+    RoomDTO toDto(Room entity);
+
+    @Override
+    @Mapping(target = "typeRoom", ignore = true)
+    @Mapping(target = "statusRoom", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Room toEntity(RoomDTO dto);
+}
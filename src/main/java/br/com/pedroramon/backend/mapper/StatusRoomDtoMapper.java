@@ -0,0 +1,24 @@
+package br.com.pedroramon.backend.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import br.com.pedroramon.backend.dto.StatusRoomDTO;
+import br.com.pedroramon.backend.model.StatusRoom;
+
+/**
+ * Mapeamento entre {@link StatusRoom} e {@link StatusRoomDTO}, com a
+ * implementação gerada pelo MapStruct durante a compilação.
+ */
+@Mapper
+public interface StatusRoomDtoMapper extends IEntityDtoMapper<StatusRoom, StatusRoomDTO> {
+
+    @Override
+    StatusRoomDTO toDto(StatusRoom entity);
+
+    @Override
+    @Mapping(target = "statusRoomId", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    StatusRoom toEntity(StatusRoomDTO dto);
+}
@@ -0,0 +1,24 @@
+package br.com.pedroramon.backend.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import br.com.pedroramon.backend.dto.TypeRoomDTO;
+import br.com.pedroramon.backend.model.TypeRoom;
+
+/**
+ * Mapeamento entre {@link TypeRoom} e {@link TypeRoomDTO}, com a implementação
+ * gerada pelo MapStruct durante a compilação.
+ */
+@Mapper
+public interface TypeRoomDtoMapper extends IEntityDtoMapper<TypeRoom, TypeRoomDTO> {
+
+    @Override
+    TypeRoomDTO toDto(TypeRoom entity);
+
+    @Override
+    @Mapping(target = "typeRoomId", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    TypeRoom toEntity(TypeRoomDTO dto);
+}
@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
  *
  * A interface {@code IEntity} estabelece um contrato para as entidades do
  * sistema, definindo métodos para acessar e modificar o ID da entidade e
- * suas datas de criação. Qualquer classe que implemente esta interface deve
+ * suas datas de criação e atualização, além da versão usada no controle de concorrência
+ * otimista. Qualquer classe que implemente esta interface deve
  * fornecer implementações para esses métodos, garantindo consistência
  * no tratamento de entidades.
  */
@@ -40,4 +41,32 @@ public interface IEntity {
      * @param createdAt A nova data de criação da entidade.
      */
     void setCreatedAt(LocalDateTime createdAt);
+
+    /**
+     * Obtém a data da última atualização da entidade.
+     *
+     * @return A data e hora da última atualização, ou {@code null} se não for conhecida.
+     */
+    LocalDateTime getUpdatedAt();
+
+    /**
+     * Obtém a versão da entidade, usada no controle de concorrência otimista.
+     *
+     * @return A versão atual da entidade, ou {@code null} se não for conhecida.
+     */
+    Long getVersion();
+
+    /**
+     * Define a versão da entidade.
+     *
+     * @param version A versão esperada da entidade.
+     */
+    void setVersion(Long version);
+
+    /**
+     * Impede novas alterações nesta instância, a partir de quando ela passa a
+     * ser compartilhada entre leituras. Por padrão, não faz nada.
+     */
+    default void markReadOnly() {
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -31,6 +32,9 @@ public class Room implements IEntity {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @Transient
     private TypeRoom typeRoom;
 
@@ -213,4 +217,24 @@ public class Room implements IEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    /**
+     * Obtém a versão do quarto.
+     *
+     * @return a versão atual
+     */
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Define a versão do quarto.
+     *
+     * @param version a versão esperada
+     */
+    @Override
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
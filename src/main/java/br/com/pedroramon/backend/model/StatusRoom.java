@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -30,6 +32,12 @@ public class StatusRoom implements IEntity {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
+    @Transient
+    private boolean readOnly;
+
     public StatusRoom(Long id, String description) {
         
         this.statusRomId = id;
@@ -59,6 +67,16 @@ public class StatusRoom implements IEntity {
         return updatedAt;
     }
 
+    /**
+     * Define a data da última modificação do status do quarto.
+     * 
+     * @param updatedAt a nova data da última modificação
+     */
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        checkWritable();
+        this.updatedAt = updatedAt;
+    }
+
     /**
      * Obtém o ID do status do quarto.
      * 
@@ -75,6 +93,7 @@ public class StatusRoom implements IEntity {
      * @param statusRoomId o novo ID do status do quarto
      */
     public void setStatusRoomId(Long statusRoomId) {
+        checkWritable();
         this.statusRomId = statusRoomId;
     }
 
@@ -93,6 +112,7 @@ public class StatusRoom implements IEntity {
      * @param description a nova descrição do status do quarto
      */
     public void setDescription(String description) {
+        checkWritable();
         this.description = description;
     }
 
@@ -113,6 +133,7 @@ public class StatusRoom implements IEntity {
      */
     @Override
     public void setId(Long id) {
+        checkWritable();
         this.statusRomId = id;
     }
 
@@ -123,6 +144,43 @@ public class StatusRoom implements IEntity {
      */
     @Override
     public void setCreatedAt(LocalDateTime createdAt) {
+        checkWritable();
         this.createdAt = createdAt;
     }
+
+    /**
+     * Obtém a versão do status do quarto.
+     *
+     * @return a versão atual
+     */
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Define a versão do status do quarto.
+     *
+     * @param version a versão esperada
+     */
+    @Override
+    public void setVersion(Long version) {
+        checkWritable();
+        this.version = version;
+    }
+
+    /**
+     * Impede novas alterações nesta instância, compartilhada pelo cache de dados
+     * de referência.
+     */
+    @Override
+    public void markReadOnly() {
+        this.readOnly = true;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Instância compartilhada pelo cache; altere uma cópia");
+        }
+    }
 }
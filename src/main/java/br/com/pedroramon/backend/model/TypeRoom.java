@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -32,6 +34,12 @@ public class TypeRoom implements IEntity {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
+    @Transient
+    private boolean readOnly;
+
     public TypeRoom(Long id, String name) {
         this.typeRoomId = id;
         this.name = name;
@@ -60,6 +68,16 @@ public class TypeRoom implements IEntity {
         return updatedAt;
     }
 
+    /**
+     * Define a data da última atualização da entidade.
+     *
+     * @param updatedAt A nova data da última atualização da entidade.
+     */
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        checkWritable();
+        this.updatedAt = updatedAt;
+    }
+
     /**
      * Obtém o ID do tipo de quarto.
      *
@@ -76,6 +94,7 @@ public class TypeRoom implements IEntity {
      * @param typeRoomId O novo ID do tipo de quarto.
      */
     public void setTypeRoomId(Long typeRoomId) {
+        checkWritable();
         this.typeRoomId = typeRoomId;
     }
 
@@ -94,6 +113,7 @@ public class TypeRoom implements IEntity {
      * @param name O novo nome do tipo de quarto.
      */
     public void setName(String name) {
+        checkWritable();
         this.name = name;
     }
 
@@ -114,6 +134,7 @@ public class TypeRoom implements IEntity {
      */
     @Override
     public void setId(Long id) {
+        checkWritable();
         this.typeRoomId = id;
     }
 
@@ -124,6 +145,43 @@ public class TypeRoom implements IEntity {
      */
     @Override
     public void setCreatedAt(LocalDateTime createdAt) {
+        checkWritable();
         this.createdAt = createdAt;
     }
+
+    /**
+     * Obtém a versão da entidade.
+     *
+     * @return A versão atual da entidade.
+     */
+    @Override
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Define a versão da entidade.
+     *
+     * @param version A versão esperada da entidade.
+     */
+    @Override
+    public void setVersion(Long version) {
+        checkWritable();
+        this.version = version;
+    }
+
+    /**
+     * Impede novas alterações nesta instância, compartilhada pelo cache de dados
+     * de referência.
+     */
+    @Override
+    public void markReadOnly() {
+        this.readOnly = true;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Instância compartilhada pelo cache; altere uma cópia");
+        }
+    }
 }
@@ -3,6 +3,8 @@ package br.com.pedroramon.backend.repository;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Interface genérica para repositórios de dados reativos.
  *
@@ -16,5 +18,15 @@ import org.springframework.data.repository.reactive.ReactiveCrudRepository;
  */
 @NoRepositoryBean
 public interface IRepository<T> extends ReactiveCrudRepository<T, Long>  {
-    // Interface vazia; os métodos de CRUD são herdados de ReactiveCrudRepository
+
+    /**
+     * Atualiza a entidade em uma única instrução {@code UPDATE ... WHERE id = ? AND version = ?},
+     * sem sobrescrever a data de criação e incrementando a versão, e devolve a linha gravada.
+     *
+     * Implementado por {@link VersionedR2dbcRepository}.
+     *
+     * @param entity A entidade com os dados atualizados.
+     * @return Um {@link Mono} com a entidade como foi gravada, ou vazio se nenhuma linha for atualizada.
+     */
+    Mono<T> updateVersioned(T entity);
 }
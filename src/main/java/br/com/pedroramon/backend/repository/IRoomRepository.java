@@ -1,5 +1,7 @@
 package br.com.pedroramon.backend.repository;
 
+import java.util.Collection;
+
 import br.com.pedroramon.backend.model.Room;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -13,9 +15,10 @@ import reactor.core.publisher.Mono;
  * 
  * A interface pode ser utilizada para realizar operações como encontrar,
  * salvar, atualizar e excluir entidades do tipo {@code Room} em um
- * repositório reativo.
+ * repositório reativo. As consultas que já trazem tipo e status do quarto em
+ * uma única instrução são fornecidas por {@link IRoomRepositoryCustom}.
  */
-public interface IRoomRepository extends IRepository<Room> {
+public interface IRoomRepository extends IRepository<Room>, IRoomRepositoryCustom {
     /**
      * Encontra um quarto pelo seu número.
      *
@@ -24,5 +27,13 @@ public interface IRoomRepository extends IRepository<Room> {
      */
     Mono<Room> findByRoomNumber(Integer roomNumber);
 
+    /**
+     * Encontra os quartos que usam algum dos números informados.
+     *
+     * @param roomNumbers os números dos quartos a serem encontrados
+     * @return um {@link Flux} com os quartos encontrados
+     */
+    Flux<Room> findAllByRoomNumberIn(Collection<Integer> roomNumbers);
+
     Flux<Room> findAllByOrderByRoomIdAsc();
 }
@@ -0,0 +1,204 @@
+package br.com.pedroramon.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import br.com.pedroramon.backend.model.Room;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fragmento de repositório com consultas personalizadas para a entidade {@link Room}.
+ *
+ * As consultas deste fragmento unem {@code rooms}, {@code type_room} e
+ * {@code status_room} em uma única instrução SQL, preenchendo
+ * {@link Room#getTypeRoom()} e {@link Room#getStatusRoom()} sem consultas
+ * adicionais por quarto.
+ */
+public interface IRoomRepositoryCustom {
+
+    /**
+     * Recupera todos os quartos, com tipo e status, ordenados por {@code room_id}.
+     *
+     * @return um {@link Flux} com os quartos e suas dependências associadas
+     */
+    Flux<Room> findAllWithDependencies();
+
+    /**
+     * Recupera todos os quartos, com tipo e status, lendo o resultado do banco
+     * em lotes de {@code fetchSize} linhas conforme a demanda do consumidor.
+     *
+     * @param fetchSize quantidade de linhas buscadas por vez
+     * @return um {@link Flux} com os quartos ordenados por {@code room_id}
+     */
+    Flux<Room> findAllWithDependencies(int fetchSize);
+
+    /**
+     * Recupera uma página de quartos, com tipo e status, usando paginação por
+     * cursor (keyset) sobre {@code room_id}.
+     *
+     * @param after ID do último quarto da página anterior, ou {@code null} para a primeira página
+     * @param limit quantidade máxima de quartos da página
+     * @return um {@link Flux} com os quartos cujo ID é maior que {@code after}, ordenados por {@code room_id}
+     */
+    Flux<Room> findPageWithDependencies(Long after, int limit);
+
+    /**
+     * Encontra um quarto pelo seu ID, com tipo e status.
+     *
+     * @param id o ID do quarto
+     * @return um {@link Mono} que emite o quarto encontrado ou vazio caso não exista
+     */
+    Mono<Room> findByIdWithDependencies(Long id);
+
+    /**
+     * Encontra um quarto pelo seu número, com tipo e status.
+     *
+     * @param roomNumber o número do quarto
+     * @return um {@link Mono} que emite o quarto encontrado ou vazio caso não exista
+     */
+    Mono<Room> findByRoomNumberWithDependencies(Integer roomNumber);
+
+    /**
+     * Recupera os quartos lendo apenas as colunas da projeção, ordenados por
+     * {@code room_id}. Tipo e status só são unidos à consulta quando expandidos
+     * na projeção; caso contrário, nem são lidos.
+     *
+     * @param projection os campos e relações a serem lidos
+     * @param after ID do último quarto da página anterior, ou {@code null} para a primeira página
+     * @param limit quantidade máxima de quartos da página, ou {@code null} para todos os quartos
+     * @return um {@link Flux} com os quartos, apenas com os campos da projeção preenchidos
+     */
+    Flux<Room> findProjected(RoomProjection projection, Long after, Integer limit);
+
+    /**
+     * Encontra um quarto pelo seu ID lendo apenas as colunas da projeção.
+     *
+     * @param id o ID do quarto
+     * @param projection os campos e relações a serem lidos
+     * @return um {@link Mono} que emite o quarto encontrado ou vazio caso não exista
+     */
+    Mono<Room> findProjectedById(Long id, RoomProjection projection);
+
+    /**
+     * Busca quartos, com tipo e status, aplicando os filtros e a ordenação
+     * informados em uma única consulta parametrizada, paginada por cursor.
+     *
+     * A consulta tem sempre o mesmo formato, independentemente dos filtros
+     * informados: filtros ausentes são enviados como intervalos completos.
+     *
+     * @param criteria os filtros da busca
+     * @param sort a ordenação, desempatada por {@code room_id}
+     * @param after os valores das chaves de ordenação do último quarto da página anterior,
+     *              ou {@code null} para a primeira página
+     * @param limit quantidade máxima de quartos da página
+     * @return um {@link Flux} com os quartos da página, na ordem informada
+     */
+    Flux<Room> search(RoomSearchCriteria criteria, RoomSort sort, List<Object> after, int limit);
+
+    /**
+     * Recupera os quartos, com tipo e status, criados ou alterados depois do
+     * instante informado, incluindo os quartos cujo tipo ou status foi alterado.
+     *
+     * @param since o instante da última sincronização
+     * @return um {@link Flux} com os quartos ordenados por {@code updated_at} e {@code room_id}
+     */
+    Flux<Room> findChangedSince(LocalDateTime since);
+
+    /**
+     * Recupera os IDs dos quartos excluídos depois do instante informado.
+     *
+     * @param since o instante da última sincronização
+     * @return um {@link Flux} com os IDs dos quartos excluídos
+     */
+    Flux<Long> findDeletedSince(LocalDateTime since);
+
+    /**
+     * Exclui um quarto e registra sua lápide em {@code room_tombstones}, em uma
+     * única instrução.
+     *
+     * @param id o ID do quarto
+     * @param deletedAt o instante da exclusão
+     * @return um {@link Mono} com a quantidade de quartos excluídos (0 ou 1)
+     */
+    Mono<Long> deleteWithTombstone(Long id, LocalDateTime deletedAt);
+
+    /**
+     * Altera o status de um quarto em uma única instrução, renovando a data de
+     * atualização e a versão. Quando a versão é informada, a alteração só é
+     * aplicada se a versão armazenada for a mesma.
+     *
+     * @param id o ID do quarto
+     * @param statusRoomId o ID do novo status
+     * @param version a versão esperada do quarto, ou {@code null} para não verificar
+     * @return um {@link Mono} com o quarto alterado, sem tipo e status preenchidos,
+     *         ou vazio caso o quarto não exista ou a versão esteja desatualizada
+     */
+    Mono<Room> updateStatus(Long id, Long statusRoomId, Long version);
+
+    /**
+     * Altera o status dos quartos informados com instruções {@code UPDATE ... WHERE room_id IN (...)},
+     * todas executadas em uma única transação.
+     *
+     * Quartos cujo ID não existe não são emitidos.
+     *
+     * @param ids os IDs dos quartos, distintos entre si
+     * @param statusRoomId o ID do novo status
+     * @return um {@link Flux} com os quartos alterados, sem tipo e status preenchidos
+     */
+    Flux<Room> updateStatusAll(List<Long> ids, Long statusRoomId);
+
+    /**
+     * Altera apenas as colunas presentes na alteração, renovando a data de
+     * atualização e a versão, em uma única instrução. Quando a versão é
+     * informada, a alteração só é aplicada se a versão armazenada for a mesma.
+     *
+     * @param id o ID do quarto
+     * @param patch as colunas a serem alteradas, com ao menos uma coluna presente
+     * @return um {@link Mono} com o quarto alterado, sem tipo e status preenchidos,
+     *         ou vazio caso o quarto não exista ou a versão esteja desatualizada
+     */
+    Mono<Room> patch(Long id, RoomPatch patch);
+
+    /**
+     * Resume o estado da coleção de quartos com uma consulta de agregação, sem
+     * ler os quartos: quantidade e soma das versões dos quartos, e a última
+     * atualização entre quartos, tipos e status.
+     *
+     * @return um {@link Mono} com o resumo da coleção de quartos
+     */
+    Mono<ResourceVersion> findCollectionVersion();
+
+    /**
+     * Resume o estado de um quarto, incluindo o tipo e o status associados,
+     * lendo apenas as datas de atualização e as versões.
+     *
+     * @param id o ID do quarto
+     * @return um {@link Mono} com o resumo do quarto ou vazio caso não exista
+     */
+    Mono<ResourceVersion> findVersionById(Long id);
+
+    /**
+     * Insere os quartos com instruções {@code INSERT} de múltiplas linhas, todas
+     * executadas em uma única transação.
+     *
+     * Quartos cujo número já existe no banco não são inseridos e não são emitidos.
+     *
+     * @param rooms os quartos a serem inseridos, com números distintos entre si
+     * @return um {@link Flux} com as mesmas instâncias inseridas, com ID, datas e versão preenchidos
+     */
+    Flux<Room> insertAll(List<Room> rooms);
+
+    /**
+     * Atualiza os quartos com instruções {@code UPDATE ... FROM (VALUES ...)} de
+     * múltiplas linhas, todas executadas em uma única transação.
+     *
+     * Quartos cujo ID não existe, ou cuja versão informada está desatualizada,
+     * não são atualizados e não são emitidos. Os quartos do lote podem trocar
+     * de número entre si.
+     *
+     * @param rooms os quartos a serem atualizados, com IDs distintos entre si
+     * @return um {@link Flux} com as mesmas instâncias atualizadas, com datas e versão renovadas
+     */
+    Flux<Room> updateAll(List<Room> rooms);
+}
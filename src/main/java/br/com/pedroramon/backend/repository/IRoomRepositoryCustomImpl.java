@@ -0,0 +1,575 @@
+package br.com.pedroramon.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.pedroramon.backend.config.RoomBatchProperties;
+import br.com.pedroramon.backend.model.Room;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementação do fragmento {@link IRoomRepositoryCustom}.
+ *
+ * O nome da classe segue a convenção do Spring Data (nome do fragmento + {@code Impl}),
+ * o que permite que ela seja combinada automaticamente ao {@link IRoomRepository}.
+ */
+public class IRoomRepositoryCustomImpl implements IRoomRepositoryCustom {
+
+    // A ordem das colunas é a lida por posição em RowReaders.
+    private static final String SELECT_WITH_DEPENDENCIES = """
+            SELECT r.room_id, r.room_number, r.daily_rate, r.type_room_id, r.status_room_id,
+                   r.created_at, r.updated_at, r.version,
+                   t.name AS type_room_name, t.created_at AS type_room_created_at,
+                   t.updated_at AS type_room_updated_at, t.version AS type_room_version,
+                   s.description AS status_room_description, s.created_at AS status_room_created_at,
+                   s.updated_at AS status_room_updated_at, s.version AS status_room_version
+              FROM rooms r
+              JOIN type_room t ON t.type_rom_id = r.type_room_id
+              JOIN status_room s ON s.status_rom_id = r.status_room_id
+            """;
+
+    private static final String SEARCH_FILTERS = """
+             WHERE r.status_room_id BETWEEN :minStatusRoomId AND :maxStatusRoomId
+               AND r.type_room_id BETWEEN :minTypeRoomId AND :maxTypeRoomId
+               AND r.daily_rate BETWEEN :minDailyRate AND :maxDailyRate
+               AND r.room_number BETWEEN :minRoomNumber AND :maxRoomNumber
+            """;
+
+    private static final String COLLECTION_VERSION = """
+            SELECT r.row_count, r.version_sum + t.version_sum + s.version_sum AS version_sum,
+                   GREATEST(r.last_updated_at, t.last_updated_at, s.last_updated_at) AS last_updated_at
+              FROM (SELECT COUNT(*) AS row_count, CAST(COALESCE(SUM(version), 0) AS BIGINT) AS version_sum,
+                           MAX(updated_at) AS last_updated_at FROM rooms) r,
+                   (SELECT CAST(COALESCE(SUM(version), 0) AS BIGINT) AS version_sum,
+                           MAX(updated_at) AS last_updated_at FROM type_room) t,
+                   (SELECT CAST(COALESCE(SUM(version), 0) AS BIGINT) AS version_sum,
+                           MAX(updated_at) AS last_updated_at FROM status_room) s
+            """;
+
+    private static final String VERSION_BY_ID = """
+            SELECT r.version + t.version + s.version AS version_sum,
+                   GREATEST(r.updated_at, t.updated_at, s.updated_at) AS last_updated_at
+              FROM rooms r
+              JOIN type_room t ON t.type_rom_id = r.type_room_id
+              JOIN status_room s ON s.status_rom_id = r.status_room_id
+             WHERE r.room_id = :id
+            """;
+
+    // Cada ramo do UNION usa o seu próprio índice: a faixa de ix_rooms_updated_at_room_id
+    // para os quartos alterados e ix_rooms_type_room_id/ix_rooms_status_room_id para os
+    // quartos cujo tipo ou status mudou. Um OR entre as colunas impediria o uso do índice.
+    private static final String CHANGED_ROOM_IDS = """
+            WITH changed AS (
+                SELECT room_id FROM rooms WHERE updated_at > :since
+                UNION
+                SELECT r.room_id FROM type_room t JOIN rooms r ON r.type_room_id = t.type_rom_id
+                 WHERE t.updated_at > :since
+                UNION
+                SELECT r.room_id FROM status_room s JOIN rooms r ON r.status_room_id = s.status_rom_id
+                 WHERE s.updated_at > :since
+            )
+            """;
+
+    private static final String CHANGED_SINCE = """
+              JOIN changed c ON c.room_id = r.room_id
+             ORDER BY r.updated_at, r.room_id
+            """;
+
+    private static final String DELETE_WITH_TOMBSTONE = """
+            WITH deleted AS (
+                DELETE FROM rooms WHERE room_id = :id RETURNING room_id
+            )
+            INSERT INTO room_tombstones (room_id, deleted_at)
+            SELECT room_id, :deletedAt FROM deleted
+            ON CONFLICT (room_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at
+            """;
+
+    private static final String UPDATE_STATUS = """
+            UPDATE rooms
+               SET status_room_id = :statusRoomId, updated_at = :now, version = version + 1
+             WHERE room_id = :id
+               AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            RETURNING room_id, room_number, daily_rate, type_room_id, status_room_id, created_at, updated_at, version
+            """;
+
+    private static final String UPDATE_STATUS_ALL = """
+            UPDATE rooms
+               SET status_room_id = :statusRoomId, updated_at = :now, version = version + 1
+             WHERE room_id IN (%s)
+            RETURNING room_id, room_number, daily_rate, type_room_id, status_room_id, created_at, updated_at, version
+            """;
+
+    private static final String PATCH_SUFFIX = """
+             WHERE room_id = :id
+               AND (CAST(:version AS BIGINT) IS NULL OR version = :version)
+            RETURNING room_id, room_number, daily_rate, type_room_id, status_room_id, created_at, updated_at, version
+            """;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO rooms (room_number, daily_rate, type_room_id, status_room_id, created_at, updated_at, version)
+            VALUES """;
+
+    private static final String INSERT_SUFFIX = """
+             ON CONFLICT (room_number) DO NOTHING
+            RETURNING room_id, room_number, created_at, updated_at, version
+            """;
+
+    private static final String UPDATE_PREFIX = """
+            UPDATE rooms AS r
+               SET room_number = v.room_number, daily_rate = v.daily_rate,
+                   type_room_id = v.type_room_id, status_room_id = v.status_room_id,
+                   updated_at = :now, version = r.version + 1
+              FROM (VALUES """;
+
+    // Libera os números que vão mudar antes da atualização, para que quartos do mesmo
+    // lote possam trocar de número sem violar o índice único no meio da transação.
+    // Os números negativos não são aceitos pela API, e o ID garante que não se repitam.
+    private static final String RELEASE_ROOM_NUMBERS = """
+            UPDATE rooms AS r
+               SET room_number = -r.room_id
+              FROM (VALUES %s) AS v (room_id, room_number, version)
+             WHERE r.room_id = v.room_id
+               AND r.room_number <> v.room_number
+               AND (v.version IS NULL OR r.version = v.version)
+            """;
+
+    private static final String UPDATE_SUFFIX = """
+                   ) AS v (room_id, room_number, daily_rate, type_room_id, status_room_id, version)
+             WHERE r.room_id = v.room_id
+               AND (v.version IS NULL OR r.version = v.version)
+            RETURNING r.room_id, r.created_at, r.updated_at, r.version
+            """;
+
+    private final Map<String, String> searchQueries = new ConcurrentHashMap<>();
+    private final Map<Integer, String> patchQueries = new ConcurrentHashMap<>();
+    private final Map<String, String> projectedQueries = new ConcurrentHashMap<>();
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final RoomBatchProperties batchProperties;
+
+    public IRoomRepositoryCustomImpl(DatabaseClient databaseClient, TransactionalOperator transactionalOperator,
+                                     RoomBatchProperties batchProperties) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.batchProperties = batchProperties;
+    }
+
+    @Override
+    public Flux<Room> findAllWithDependencies() {
+        return databaseClient.sql(SELECT_WITH_DEPENDENCIES + " ORDER BY r.room_id")
+                .map((row, metadata) -> RowReaders.roomWithDependencies(row))
+                .all();
+    }
+
+    @Override
+    public Flux<Room> findAllWithDependencies(int fetchSize) {
+        return databaseClient.sql(SELECT_WITH_DEPENDENCIES + " ORDER BY r.room_id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, metadata) -> RowReaders.roomWithDependencies(row))
+                .all();
+    }
+
+    @Override
+    public Flux<Room> findPageWithDependencies(Long after, int limit) {
+        return databaseClient.sql(SELECT_WITH_DEPENDENCIES + " WHERE r.room_id > :after ORDER BY r.room_id LIMIT :limit")
+                .bind("after", after == null ? 0L : after)
+                .bind("limit", limit)
+                .map((row, metadata) -> RowReaders.roomWithDependencies(row))
+                .all();
+    }
+
+    @Override
+    public Mono<Room> findByIdWithDependencies(Long id) {
+        return databaseClient.sql(SELECT_WITH_DEPENDENCIES + " WHERE r.room_id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> RowReaders.roomWithDependencies(row))
+                .one();
+    }
+
+    @Override
+    public Mono<Room> findByRoomNumberWithDependencies(Integer roomNumber) {
+        return databaseClient.sql(SELECT_WITH_DEPENDENCIES + " WHERE r.room_number = :roomNumber")
+                .bind("roomNumber", roomNumber)
+                .map((row, metadata) -> RowReaders.roomWithDependencies(row))
+                .one();
+    }
+
+    @Override
+    public Flux<Room> findProjected(RoomProjection projection, Long after, Integer limit) {
+        if (limit == null) {
+            return databaseClient.sql(projectedQuery(projection, " ORDER BY r.room_id"))
+                    .map((row, metadata) -> RowReaders.projected(row, projection))
+                    .all();
+        }
+        return databaseClient.sql(projectedQuery(projection, " WHERE r.room_id > :after ORDER BY r.room_id LIMIT :limit"))
+                .bind("after", after == null ? 0L : after)
+                .bind("limit", limit)
+                .map((row, metadata) -> RowReaders.projected(row, projection))
+                .all();
+    }
+
+    @Override
+    public Mono<Room> findProjectedById(Long id, RoomProjection projection) {
+        return databaseClient.sql(projectedQuery(projection, " WHERE r.room_id = :id"))
+                .bind("id", id)
+                .map((row, metadata) -> RowReaders.projected(row, projection))
+                .one();
+    }
+
+    @Override
+    public Flux<Room> search(RoomSearchCriteria criteria, RoomSort sort, List<Object> after, int limit) {
+        String sql = searchQueries.computeIfAbsent(sort + (after == null ? "" : "|after"),
+                key -> buildSearchQuery(sort, after != null));
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("minStatusRoomId", criteria.statusRoomId() == null ? Long.MIN_VALUE : criteria.statusRoomId())
+                .bind("maxStatusRoomId", criteria.statusRoomId() == null ? Long.MAX_VALUE : criteria.statusRoomId())
+                .bind("minTypeRoomId", criteria.typeRoomId() == null ? Long.MIN_VALUE : criteria.typeRoomId())
+                .bind("maxTypeRoomId", criteria.typeRoomId() == null ? Long.MAX_VALUE : criteria.typeRoomId())
+                .bind("minDailyRate", criteria.minDailyRate() == null
+                        ? RoomSearchCriteria.MAX_DAILY_RATE.negate() : criteria.minDailyRate())
+                .bind("maxDailyRate", criteria.maxDailyRate() == null
+                        ? RoomSearchCriteria.MAX_DAILY_RATE : criteria.maxDailyRate())
+                .bind("minRoomNumber", criteria.minRoomNumber() == null ? Integer.MIN_VALUE : criteria.minRoomNumber())
+                .bind("maxRoomNumber", criteria.maxRoomNumber() == null ? Integer.MAX_VALUE : criteria.maxRoomNumber())
+                .bind("limit", limit);
+        if (after != null) {
+            for (int i = 0; i < after.size(); i++) {
+                spec = spec.bind("after" + i, after.get(i));
+            }
+        }
+        return spec.map((row, metadata) -> RowReaders.roomWithDependencies(row)).all();
+    }
+
+    @Override
+    public Flux<Room> findChangedSince(LocalDateTime since) {
+        return databaseClient.sql(CHANGED_ROOM_IDS + SELECT_WITH_DEPENDENCIES + CHANGED_SINCE)
+                .bind("since", since)
+                .map((row, metadata) -> RowReaders.roomWithDependencies(row))
+                .all();
+    }
+
+    @Override
+    public Flux<Long> findDeletedSince(LocalDateTime since) {
+        return databaseClient.sql("SELECT room_id FROM room_tombstones WHERE deleted_at > :since ORDER BY deleted_at, room_id")
+                .bind("since", since)
+                .map((row, metadata) -> row.get("room_id", Long.class))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> deleteWithTombstone(Long id, LocalDateTime deletedAt) {
+        return databaseClient.sql(DELETE_WITH_TOMBSTONE)
+                .bind("id", id)
+                .bind("deletedAt", deletedAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<ResourceVersion> findCollectionVersion() {
+        return databaseClient.sql(COLLECTION_VERSION)
+                .map((row, metadata) -> new ResourceVersion(
+                        row.get("row_count", Long.class),
+                        row.get("version_sum", Long.class),
+                        row.get("last_updated_at", LocalDateTime.class)))
+                .one();
+    }
+
+    @Override
+    public Mono<ResourceVersion> findVersionById(Long id) {
+        return databaseClient.sql(VERSION_BY_ID)
+                .bind("id", id)
+                .map((row, metadata) -> new ResourceVersion(
+                        1,
+                        row.get("version_sum", Long.class),
+                        row.get("last_updated_at", LocalDateTime.class)))
+                .one();
+    }
+
+    @Override
+    public Mono<Room> updateStatus(Long id, Long statusRoomId, Long version) {
+        return databaseClient.sql(UPDATE_STATUS)
+                .bind("id", id)
+                .bind("statusRoomId", statusRoomId)
+                .bind("now", LocalDateTime.now())
+                .bind("version", Parameter.fromOrEmpty(version, Long.class))
+                .map((row, metadata) -> RowReaders.room(row))
+                .one();
+    }
+
+    @Override
+    public Flux<Room> updateStatusAll(List<Long> ids, Long statusRoomId) {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionalOperator.transactional(
+                Flux.fromIterable(partition(ids)).concatMap(chunk -> updateStatusChunk(chunk, statusRoomId, now)));
+    }
+
+    @Override
+    public Mono<Room> patch(Long id, RoomPatch patch) {
+        String sql = patchQueries.computeIfAbsent(patch.columnMask(), mask -> buildPatchQuery(patch));
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("id", id)
+                .bind("now", LocalDateTime.now())
+                .bind("version", Parameter.fromOrEmpty(patch.version(), Long.class));
+        if (patch.roomNumber() != null) {
+            spec = spec.bind("roomNumber", patch.roomNumber());
+        }
+        if (patch.dailyRate() != null) {
+            spec = spec.bind("dailyRate", patch.dailyRate());
+        }
+        if (patch.typeRoomId() != null) {
+            spec = spec.bind("typeRoomId", patch.typeRoomId());
+        }
+        if (patch.statusRoomId() != null) {
+            spec = spec.bind("statusRoomId", patch.statusRoomId());
+        }
+        return spec.map((row, metadata) -> RowReaders.room(row)).one();
+    }
+
+    /**
+     * Monta a instrução de alteração parcial com apenas as colunas presentes na
+     * alteração. O resultado depende apenas do conjunto de colunas, e é
+     * reaproveitado entre chamadas.
+     */
+    private static String buildPatchQuery(RoomPatch patch) {
+        StringJoiner set = new StringJoiner(", ", "UPDATE rooms SET ", "\n");
+        if (patch.roomNumber() != null) {
+            set.add("room_number = :roomNumber");
+        }
+        if (patch.dailyRate() != null) {
+            set.add("daily_rate = :dailyRate");
+        }
+        if (patch.typeRoomId() != null) {
+            set.add("type_room_id = :typeRoomId");
+        }
+        if (patch.statusRoomId() != null) {
+            set.add("status_room_id = :statusRoomId");
+        }
+        set.add("updated_at = :now").add("version = version + 1");
+        return set + PATCH_SUFFIX;
+    }
+
+    /**
+     * Recupera a consulta projetada com o filtro informado, montando-a apenas
+     * na primeira vez em que a combinação de projeção e filtro é usada.
+     */
+    private String projectedQuery(RoomProjection projection, String filter) {
+        return projectedQueries.computeIfAbsent(projection + filter, key -> buildProjectedQuery(projection) + filter);
+    }
+
+    /**
+     * Monta o início da consulta projetada: {@code room_id}, as colunas dos
+     * campos pedidos e, apenas para as relações expandidas, a junção com
+     * {@code type_room} e {@code status_room}. As colunas das relações têm os
+     * mesmos nomes de {@link #SELECT_WITH_DEPENDENCIES}.
+     */
+    private static String buildProjectedQuery(RoomProjection projection) {
+        StringJoiner columns = new StringJoiner(", ", "SELECT ", "\n");
+        columns.add("r.room_id");
+        for (RoomProjection.Field field : projection.fields()) {
+            if (field != RoomProjection.Field.ID) {
+                columns.add(field.column());
+            }
+        }
+        if (projection.typeRoom()) {
+            if (!projection.includes(RoomProjection.Field.TYPE_ROOM_ID)) {
+                columns.add(RoomProjection.Field.TYPE_ROOM_ID.column());
+            }
+            columns.add("t.name AS type_room_name").add("t.created_at AS type_room_created_at")
+                    .add("t.updated_at AS type_room_updated_at").add("t.version AS type_room_version");
+        }
+        if (projection.statusRoom()) {
+            if (!projection.includes(RoomProjection.Field.STATUS_ROOM_ID)) {
+                columns.add(RoomProjection.Field.STATUS_ROOM_ID.column());
+            }
+            columns.add("s.description AS status_room_description").add("s.created_at AS status_room_created_at")
+                    .add("s.updated_at AS status_room_updated_at").add("s.version AS status_room_version");
+        }
+
+        StringBuilder sql = new StringBuilder(columns.toString()).append("  FROM rooms r\n");
+        if (projection.typeRoom()) {
+            sql.append("  JOIN type_room t ON t.type_rom_id = r.type_room_id\n");
+        }
+        if (projection.statusRoom()) {
+            sql.append("  JOIN status_room s ON s.status_rom_id = r.status_room_id\n");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Altera o status de um bloco de quartos em uma única instrução.
+     */
+    private Flux<Room> updateStatusChunk(List<Long> chunk, Long statusRoomId, LocalDateTime now) {
+        StringJoiner placeholders = new StringJoiner(", ");
+        for (int i = 0; i < chunk.size(); i++) {
+            placeholders.add(":id" + i);
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPDATE_STATUS_ALL.formatted(placeholders))
+                .bind("statusRoomId", statusRoomId)
+                .bind("now", now);
+        for (int i = 0; i < chunk.size(); i++) {
+            spec = spec.bind("id" + i, chunk.get(i));
+        }
+        return spec.map((row, metadata) -> RowReaders.room(row)).all();
+    }
+
+    /**
+     * Monta a consulta de busca para uma ordenação. O resultado depende apenas
+     * da ordenação e da presença do cursor, e é reaproveitado entre chamadas.
+     *
+     * Com o cursor, a página começa logo após a posição do último quarto:
+     * {@code (k0 > :after0) OR (k0 = :after0 AND k1 > :after1) OR ...}, com
+     * {@code <} nas chaves em ordem decrescente.
+     */
+    private static String buildSearchQuery(RoomSort sort, boolean withCursor) {
+        StringBuilder sql = new StringBuilder(SELECT_WITH_DEPENDENCIES).append(SEARCH_FILTERS);
+        List<RoomSort.Order> orders = sort.orders();
+        if (withCursor) {
+            StringJoiner keyset = new StringJoiner(" OR ", "   AND (", ")\n");
+            for (int i = 0; i < orders.size(); i++) {
+                StringJoiner term = new StringJoiner(" AND ", "(", ")");
+                for (int j = 0; j < i; j++) {
+                    term.add(orders.get(j).field().column() + " = :after" + j);
+                }
+                RoomSort.Order order = orders.get(i);
+                term.add(order.field().column() + (order.descending() ? " < " : " > ") + ":after" + i);
+                keyset.add(term.toString());
+            }
+            sql.append(keyset);
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", " LIMIT :limit");
+        for (RoomSort.Order order : orders) {
+            orderBy.add(order.field().column() + (order.descending() ? " DESC" : " ASC"));
+        }
+        return sql.append(orderBy).toString();
+    }
+
+    @Override
+    public Flux<Room> insertAll(List<Room> rooms) {
+        LocalDateTime now = LocalDateTime.now();
+        return transactionalOperator.transactional(
+                Flux.fromIterable(partition(rooms)).concatMap(chunk -> insertChunk(chunk, now)));
+    }
+
+    @Override
+    public Flux<Room> updateAll(List<Room> rooms) {
+        LocalDateTime now = LocalDateTime.now();
+        List<List<Room>> chunks = partition(rooms);
+        return transactionalOperator.transactional(
+                Flux.fromIterable(chunks).concatMap(this::releaseRoomNumbers)
+                        .thenMany(Flux.fromIterable(chunks).concatMap(chunk -> updateChunk(chunk, now))));
+    }
+
+    /**
+     * Insere um bloco de quartos em uma única instrução, associando cada linha
+     * retornada à instância de origem pelo número do quarto.
+     */
+    private Flux<Room> insertChunk(List<Room> chunk, LocalDateTime now) {
+        Map<Integer, Room> byRoomNumber = new HashMap<>(chunk.size() * 2);
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < chunk.size(); i++) {
+            byRoomNumber.put(chunk.get(i).getRoomNumber(), chunk.get(i));
+            values.add("(:roomNumber" + i + ", :dailyRate" + i + ", :typeRoomId" + i + ", :statusRoomId" + i
+                    + ", :now, :now, 0)");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_PREFIX + values + INSERT_SUFFIX)
+                .bind("now", now);
+        for (int i = 0; i < chunk.size(); i++) {
+            Room room = chunk.get(i);
+            spec = spec.bind("roomNumber" + i, room.getRoomNumber())
+                    .bind("dailyRate" + i, room.getDailyRate())
+                    .bind("typeRoomId" + i, room.getTypeRoomId())
+                    .bind("statusRoomId" + i, room.getStatusRoomId());
+        }
+
+        return spec.map((row, metadata) -> {
+                    Room room = byRoomNumber.get(row.get("room_number", Integer.class));
+                    room.setId(row.get("room_id", Long.class));
+                    room.setCreatedAt(row.get("created_at", LocalDateTime.class));
+                    room.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+                    room.setVersion(row.get("version", Long.class));
+                    return room;
+                })
+                .all();
+    }
+
+    /**
+     * Troca por um valor provisório o número dos quartos de um bloco que vão
+     * receber um número diferente, sem alterar a versão nem a data de atualização.
+     */
+    private Mono<Long> releaseRoomNumbers(List<Room> chunk) {
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < chunk.size(); i++) {
+            values.add("(CAST(:id" + i + " AS BIGINT), CAST(:roomNumber" + i + " AS INTEGER), "
+                    + "CAST(:version" + i + " AS BIGINT))");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(RELEASE_ROOM_NUMBERS.formatted(values));
+        for (int i = 0; i < chunk.size(); i++) {
+            Room room = chunk.get(i);
+            spec = spec.bind("id" + i, room.getId())
+                    .bind("roomNumber" + i, room.getRoomNumber())
+                    .bind("version" + i, Parameter.fromOrEmpty(room.getVersion(), Long.class));
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * Atualiza um bloco de quartos em uma única instrução, associando cada linha
+     * retornada à instância de origem pelo ID do quarto.
+     */
+    private Flux<Room> updateChunk(List<Room> chunk, LocalDateTime now) {
+        Map<Long, Room> byId = new HashMap<>(chunk.size() * 2);
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < chunk.size(); i++) {
+            byId.put(chunk.get(i).getId(), chunk.get(i));
+            values.add("(CAST(:id" + i + " AS BIGINT), CAST(:roomNumber" + i + " AS INTEGER), "
+                    + "CAST(:dailyRate" + i + " AS NUMERIC(10, 2)), CAST(:typeRoomId" + i + " AS BIGINT), "
+                    + "CAST(:statusRoomId" + i + " AS BIGINT), CAST(:version" + i + " AS BIGINT))");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPDATE_PREFIX + values + UPDATE_SUFFIX)
+                .bind("now", now);
+        for (int i = 0; i < chunk.size(); i++) {
+            Room room = chunk.get(i);
+            spec = spec.bind("id" + i, room.getId())
+                    .bind("roomNumber" + i, room.getRoomNumber())
+                    .bind("dailyRate" + i, room.getDailyRate())
+                    .bind("typeRoomId" + i, room.getTypeRoomId())
+                    .bind("statusRoomId" + i, room.getStatusRoomId())
+                    .bind("version" + i, Parameter.fromOrEmpty(room.getVersion(), Long.class));
+        }
+
+        return spec.map((row, metadata) -> {
+                    Room room = byId.get(row.get("room_id", Long.class));
+                    room.setCreatedAt(row.get("created_at", LocalDateTime.class));
+                    room.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+                    room.setVersion(row.get("version", Long.class));
+                    return room;
+                })
+                .all();
+    }
+
+    private <E> List<List<E>> partition(List<E> items) {
+        int chunkSize = Math.max(1, batchProperties.chunkSize());
+        List<List<E>> chunks = new ArrayList<>((items.size() + chunkSize - 1) / chunkSize);
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            chunks.add(items.subList(start, Math.min(start + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+}
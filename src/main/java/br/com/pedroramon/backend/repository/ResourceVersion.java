@@ -0,0 +1,45 @@
+package br.com.pedroramon.backend.repository;
+
+import java.time.LocalDateTime;
+
+import br.com.pedroramon.backend.model.IEntity;
+
+/**
+ * Resumo do estado de um recurso, usado para saber se ele mudou sem precisar
+ * carregá-lo por completo.
+ *
+ * Para uma entidade, resume a própria entidade e as entidades incluídas na sua
+ * representação; para uma coleção, resume todas as suas linhas. Qualquer
+ * inclusão, alteração ou exclusão muda ao menos um dos valores, já que toda
+ * alteração incrementa a versão e renova a data de atualização.
+ *
+ * @param count Quantidade de linhas do recurso.
+ * @param versionSum Soma das versões das entidades do recurso.
+ * @param lastUpdatedAt Data da última atualização entre as entidades do recurso,
+ *                      ou {@code null} se o recurso estiver vazio.
+ */
+public record ResourceVersion(long count, long versionSum, LocalDateTime lastUpdatedAt) {
+
+    /**
+     * Resume as entidades informadas, ignorando as nulas.
+     *
+     * @param count A quantidade de linhas do recurso.
+     * @param entities As entidades que compõem a representação do recurso.
+     * @return O resumo das entidades.
+     */
+    public static ResourceVersion of(long count, Iterable<? extends IEntity> entities) {
+        long versionSum = 0;
+        LocalDateTime lastUpdatedAt = null;
+        for (IEntity entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+            versionSum += entity.getVersion() == null ? 0 : entity.getVersion();
+            LocalDateTime updatedAt = entity.getUpdatedAt();
+            if (updatedAt != null && (lastUpdatedAt == null || updatedAt.isAfter(lastUpdatedAt))) {
+                lastUpdatedAt = updatedAt;
+            }
+        }
+        return new ResourceVersion(count, versionSum, lastUpdatedAt);
+    }
+}
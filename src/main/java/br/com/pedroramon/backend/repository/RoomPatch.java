@@ -0,0 +1,39 @@
+package br.com.pedroramon.backend.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Colunas a serem alteradas em um quarto. Campos nulos mantêm o valor atual.
+ *
+ * @param roomNumber Novo número do quarto.
+ * @param dailyRate Nova taxa diária do quarto.
+ * @param typeRoomId Novo ID do tipo do quarto.
+ * @param statusRoomId Novo ID do status do quarto.
+ * @param version Versão esperada do quarto, ou {@code null} para não verificar.
+ */
+public record RoomPatch(
+    Integer roomNumber,
+    BigDecimal dailyRate,
+    Long typeRoomId,
+    Long statusRoomId,
+    Long version
+) {
+
+    /**
+     * @return {@code true} se nenhuma coluna for alterada.
+     */
+    public boolean isEmpty() {
+        return roomNumber == null && dailyRate == null && typeRoomId == null && statusRoomId == null;
+    }
+
+    /**
+     * Identifica o conjunto de colunas alteradas, um bit por coluna, na ordem
+     * dos componentes deste registro.
+     */
+    int columnMask() {
+        return (roomNumber != null ? 1 : 0)
+                | (dailyRate != null ? 2 : 0)
+                | (typeRoomId != null ? 4 : 0)
+                | (statusRoomId != null ? 8 : 0);
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.pedroramon.backend.repository;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Campos e relações de um quarto pedidos pelo cliente, a partir dos parâmetros
+ * {@code fields} e {@code expand}.
+ *
+ * Apenas as colunas dos campos pedidos são selecionadas, e {@code type_room} e
+ * {@code status_room} só entram na consulta quando a relação correspondente é
+ * expandida. {@code room_id} é sempre lido, pois ordena a consulta e serve de
+ * cursor, mesmo que {@code id} não esteja entre os campos devolvidos.
+ *
+ * @param fields Os campos do quarto a serem devolvidos.
+ * @param typeRoom Se o tipo do quarto deve ser incluído.
+ * @param statusRoom Se o status do quarto deve ser incluído.
+ */
+public record RoomProjection(Set<Field> fields, boolean typeRoom, boolean statusRoom) {
+
+    public RoomProjection {
+        fields = Collections.unmodifiableSet(fields.isEmpty() ? EnumSet.noneOf(Field.class) : EnumSet.copyOf(fields));
+    }
+
+    /**
+     * Campos do quarto aceitos no parâmetro {@code fields}.
+     */
+    public enum Field {
+        ID("id", "r.room_id"),
+        ROOM_NUMBER("roomNumber", "r.room_number"),
+        DAILY_RATE("dailyRate", "r.daily_rate"),
+        TYPE_ROOM_ID("typeRoomId", "r.type_room_id"),
+        STATUS_ROOM_ID("statusRoomId", "r.status_room_id"),
+        VERSION("version", "r.version");
+
+        private final String parameter;
+        private final String column;
+
+        Field(String parameter, String column) {
+            this.parameter = parameter;
+            this.column = column;
+        }
+
+        public String column() {
+            return column;
+        }
+
+        private static Field fromParameter(String parameter) {
+            for (Field field : values()) {
+                if (field.parameter.equals(parameter)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Campo inválido: " + parameter);
+        }
+    }
+
+    /**
+     * Interpreta os parâmetros {@code fields} e {@code expand}.
+     *
+     * @param fields Os campos separados por vírgula, ou {@code null} para todos os campos.
+     * @param expand As relações separadas por vírgula ({@code typeRoom}, {@code statusRoom}), ou {@code null} para nenhuma.
+     * @return A projeção correspondente.
+     * @throws IllegalArgumentException Se algum campo ou relação for desconhecido.
+     */
+    public static RoomProjection parse(String fields, String expand) {
+        Set<Field> selected = EnumSet.noneOf(Field.class);
+        if (fields == null || fields.isBlank()) {
+            selected = EnumSet.allOf(Field.class);
+        } else {
+            for (String token : fields.split(",")) {
+                selected.add(Field.fromParameter(token.trim()));
+            }
+        }
+        boolean typeRoom = false;
+        boolean statusRoom = false;
+        if (expand != null && !expand.isBlank()) {
+            for (String token : expand.split(",")) {
+                switch (token.trim()) {
+                    case "typeRoom" -> typeRoom = true;
+                    case "statusRoom" -> statusRoom = true;
+                    default -> throw new IllegalArgumentException("Relação inválida para expand: " + token.trim());
+                }
+            }
+        }
+        return new RoomProjection(selected, typeRoom, statusRoom);
+    }
+
+    /**
+     * @param field O campo consultado.
+     * @return {@code true} se o campo foi pedido.
+     */
+    public boolean includes(Field field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Identifica a forma da consulta: os campos pedidos e as relações expandidas.
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",", "", (typeRoom ? "+typeRoom" : "") + (statusRoom ? "+statusRoom" : ""));
+        fields.forEach(field -> joiner.add(field.parameter));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.pedroramon.backend.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Filtros da busca de quartos. Filtros nulos não restringem o resultado.
+ *
+ * @param statusRoomId ID do status do quarto.
+ * @param typeRoomId ID do tipo do quarto.
+ * @param minDailyRate Valor mínimo da diária, inclusive.
+ * @param maxDailyRate Valor máximo da diária, inclusive.
+ * @param minRoomNumber Menor número de quarto, inclusive.
+ * @param maxRoomNumber Maior número de quarto, inclusive.
+ */
+public record RoomSearchCriteria(
+    Long statusRoomId,
+    Long typeRoomId,
+    BigDecimal minDailyRate,
+    BigDecimal maxDailyRate,
+    Integer minRoomNumber,
+    Integer maxRoomNumber
+) {
+
+    /**
+     * Maior valor representável pela coluna {@code daily_rate NUMERIC(10, 2)}.
+     */
+    static final BigDecimal MAX_DAILY_RATE = new BigDecimal("99999999.99");
+
+    /**
+     * Busca sem filtros.
+     */
+    public static final RoomSearchCriteria ANY = new RoomSearchCriteria(null, null, null, null, null, null);
+}
@@ -0,0 +1,178 @@
+package br.com.pedroramon.backend.repository;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+import br.com.pedroramon.backend.model.Room;
+
+/**
+ * Ordenação da busca de quartos, restrita aos campos de {@link Field}.
+ *
+ * A ordenação é sempre desempatada por {@code room_id}, o que torna a ordem
+ * total e permite paginar por cursor (keyset): o cursor guarda os valores das
+ * chaves de ordenação do último quarto da página e a próxima página começa
+ * logo depois deles, sem {@code OFFSET}.
+ *
+ * O formato do parâmetro é uma lista de campos separados por vírgula, com
+ * {@code -} antes dos campos em ordem decrescente, por exemplo
+ * {@code dailyRate,-roomNumber}.
+ */
+public record RoomSort(List<Order> orders) {
+
+    /**
+     * Ordenação padrão: por {@code room_id}, crescente.
+     */
+    public static final RoomSort DEFAULT = new RoomSort(List.of(new Order(Field.ID, false)));
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    public RoomSort {
+        orders = withTiebreaker(orders);
+    }
+
+    /**
+     * Campos aceitos na ordenação da busca de quartos.
+     */
+    public enum Field {
+        ID("id", "r.room_id", Room::getId, Long::valueOf),
+        ROOM_NUMBER("roomNumber", "r.room_number", Room::getRoomNumber, Integer::valueOf),
+        DAILY_RATE("dailyRate", "r.daily_rate", Room::getDailyRate, BigDecimal::new),
+        TYPE_ROOM_ID("typeRoomId", "r.type_room_id", Room::getTypeRoomId, Long::valueOf),
+        STATUS_ROOM_ID("statusRoomId", "r.status_room_id", Room::getStatusRoomId, Long::valueOf);
+
+        private final String parameter;
+        private final String column;
+        private final Function<Room, Object> accessor;
+        private final Function<String, Object> parser;
+
+        Field(String parameter, String column, Function<Room, Object> accessor, Function<String, Object> parser) {
+            this.parameter = parameter;
+            this.column = column;
+            this.accessor = accessor;
+            this.parser = parser;
+        }
+
+        public String column() {
+            return column;
+        }
+
+        private static Field fromParameter(String parameter) {
+            for (Field field : values()) {
+                if (field.parameter.equals(parameter)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Campo de ordenação inválido: " + parameter);
+        }
+    }
+
+    /**
+     * Uma chave de ordenação.
+     *
+     * @param field O campo ordenado.
+     * @param descending Se a ordem é decrescente.
+     */
+    public record Order(Field field, boolean descending) {
+
+        @Override
+        public String toString() {
+            return (descending ? "-" : "") + field.parameter;
+        }
+    }
+
+    /**
+     * Interpreta o parâmetro {@code sort} da busca.
+     *
+     * @param parameter Os campos separados por vírgula, ou {@code null} para a ordenação padrão.
+     * @return A ordenação correspondente.
+     * @throws IllegalArgumentException Se algum campo for desconhecido ou repetido.
+     */
+    public static RoomSort parse(String parameter) {
+        if (parameter == null || parameter.isBlank()) {
+            return DEFAULT;
+        }
+        List<Order> orders = new ArrayList<>();
+        Set<Field> seen = EnumSet.noneOf(Field.class);
+        for (String token : parameter.split(",")) {
+            String name = token.trim();
+            boolean descending = name.startsWith("-");
+            Field field = Field.fromParameter(descending ? name.substring(1) : name);
+            if (!seen.add(field)) {
+                throw new IllegalArgumentException("Campo de ordenação repetido: " + field.parameter);
+            }
+            orders.add(new Order(field, descending));
+        }
+        return new RoomSort(orders);
+    }
+
+    /**
+     * Monta o cursor que aponta para logo depois do quarto informado.
+     *
+     * @param last O último quarto da página.
+     * @return O cursor opaco da próxima página.
+     */
+    public String encodeCursor(Room last) {
+        StringJoiner cursor = new StringJoiner(CURSOR_SEPARATOR).add(toString());
+        for (Order order : orders) {
+            cursor.add(String.valueOf(order.field().accessor.apply(last)));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê os valores das chaves de ordenação guardados em um cursor.
+     *
+     * @param cursor O cursor recebido, ou {@code null} para a primeira página.
+     * @return Os valores, na ordem das chaves, ou {@code null} para a primeira página.
+     * @throws IllegalArgumentException Se o cursor for inválido ou tiver sido gerado com outra ordenação.
+     */
+    public List<Object> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != orders.size() + 1 || !parts[0].equals(toString())) {
+                throw new IllegalArgumentException(cursor);
+            }
+            List<Object> values = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                values.add(orders.get(i).field().parser.apply(parts[i + 1]));
+            }
+            return values;
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Cursor inválido para a ordenação informada", ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",");
+        orders.forEach(order -> joiner.add(order.toString()));
+        return joiner.toString();
+    }
+
+    /**
+     * Acrescenta {@code room_id} como última chave, se ainda não estiver presente,
+     * e descarta as chaves posteriores a ele, que nunca desempatam.
+     */
+    private static List<Order> withTiebreaker(List<Order> orders) {
+        List<Order> effective = new ArrayList<>(orders.size() + 1);
+        for (Order order : orders) {
+            effective.add(order);
+            if (order.field() == Field.ID) {
+                return List.copyOf(effective);
+            }
+        }
+        effective.add(new Order(Field.ID, false));
+        return List.copyOf(effective);
+    }
+}
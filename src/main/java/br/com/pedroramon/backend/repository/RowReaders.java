@@ -0,0 +1,220 @@
+package br.com.pedroramon.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.model.TypeRoom;
+import io.r2dbc.spi.Row;
+
+/**
+ * Leitores de linhas escritos à mão para {@link Room}, {@link TypeRoom} e
+ * {@link StatusRoom}, sem reflexão nem o serviço de conversão genérico do
+ * Spring Data.
+ *
+ * São usados nas consultas próprias do {@link IRoomRepositoryCustomImpl} e,
+ * por meio de {@link #forEntity(Class)}, nas leituras por ID e completas de
+ * {@link VersionedR2dbcRepository}. As consultas de ordem de colunas fixa são
+ * lidas por posição, e a consulta projetada, cujas colunas variam, por nome.
+ * As consultas derivadas de nomes de métodos (como {@code findByRoomNumber})
+ * continuam com o mapeamento padrão do Spring Data. Cada coluna é lida
+ * diretamente no tipo Java devolvido pelo driver, sem conversões intermediárias.
+ */
+public final class RowReaders {
+
+    // Posições das colunas do quarto, iguais em SELECT_WITH_DEPENDENCIES e nos RETURNING.
+    private static final int ROOM_ID = 0;
+    private static final int ROOM_NUMBER = 1;
+    private static final int DAILY_RATE = 2;
+    private static final int TYPE_ROOM_ID = 3;
+    private static final int STATUS_ROOM_ID = 4;
+    private static final int CREATED_AT = 5;
+    private static final int UPDATED_AT = 6;
+    private static final int VERSION = 7;
+
+    // Posições das colunas do tipo e do status em SELECT_WITH_DEPENDENCIES.
+    private static final int TYPE_ROOM_NAME = 8;
+    private static final int TYPE_ROOM_CREATED_AT = 9;
+    private static final int TYPE_ROOM_UPDATED_AT = 10;
+    private static final int TYPE_ROOM_VERSION = 11;
+    private static final int STATUS_ROOM_DESCRIPTION = 12;
+    private static final int STATUS_ROOM_CREATED_AT = 13;
+    private static final int STATUS_ROOM_UPDATED_AT = 14;
+    private static final int STATUS_ROOM_VERSION = 15;
+
+    // Posições das colunas do tipo e do status em suas próprias tabelas.
+    private static final int REFERENCE_ID = 0;
+    private static final int REFERENCE_NAME = 1;
+    private static final int REFERENCE_CREATED_AT = 2;
+    private static final int REFERENCE_UPDATED_AT = 3;
+    private static final int REFERENCE_VERSION = 4;
+
+    private static final EntityReader<Room> ROOM = new EntityReader<>(
+            "room_id, room_number, daily_rate, type_room_id, status_room_id, created_at, updated_at, version",
+            RowReaders::room);
+    private static final EntityReader<TypeRoom> TYPE_ROOM = new EntityReader<>(
+            "type_rom_id, name, created_at, updated_at, version", RowReaders::typeRoom);
+    private static final EntityReader<StatusRoom> STATUS_ROOM = new EntityReader<>(
+            "status_rom_id, description, created_at, updated_at, version", RowReaders::statusRoom);
+
+    private RowReaders() {
+    }
+
+    /**
+     * Colunas selecionadas de uma tabela, na ordem lida por {@code reader}.
+     *
+     * @param columns a lista de colunas, pronta para um {@code SELECT} ou {@code RETURNING}
+     * @param reader o leitor de uma linha com essas colunas
+     * @param <T> o tipo da entidade
+     */
+    public record EntityReader<T>(String columns, Function<Row, T> reader) {
+
+        /**
+         * Lê uma linha com as colunas de {@link #columns()}.
+         *
+         * @param row a linha lida
+         * @return a entidade correspondente
+         */
+        public T read(Row row) {
+            return reader.apply(row);
+        }
+    }
+
+    /**
+     * Devolve o leitor das linhas da tabela de uma entidade.
+     *
+     * @param type a classe da entidade
+     * @param <T> o tipo da entidade
+     * @return o leitor da entidade, ou {@code null} se ela usar o mapeamento padrão
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EntityReader<T> forEntity(Class<T> type) {
+        if (type == Room.class) {
+            return (EntityReader<T>) ROOM;
+        }
+        if (type == TypeRoom.class) {
+            return (EntityReader<T>) TYPE_ROOM;
+        }
+        if (type == StatusRoom.class) {
+            return (EntityReader<T>) STATUS_ROOM;
+        }
+        return null;
+    }
+
+    /**
+     * Lê as colunas do quarto, nas oito primeiras posições, sem tipo e status.
+     *
+     * @param row a linha de uma consulta que começa pelas colunas do quarto
+     * @return o quarto correspondente
+     */
+    public static Room room(Row row) {
+        Room room = new Room(
+                row.get(ROOM_ID, Long.class),
+                row.get(ROOM_NUMBER, Integer.class),
+                row.get(DAILY_RATE, BigDecimal.class),
+                row.get(TYPE_ROOM_ID, Long.class),
+                row.get(STATUS_ROOM_ID, Long.class));
+        room.setCreatedAt(row.get(CREATED_AT, LocalDateTime.class));
+        room.setUpdatedAt(row.get(UPDATED_AT, LocalDateTime.class));
+        room.setVersion(row.get(VERSION, Long.class));
+        return room;
+    }
+
+    /**
+     * Lê uma linha da consulta unida de quartos, tipos e status.
+     *
+     * @param row a linha com as colunas de {@code SELECT_WITH_DEPENDENCIES}, na mesma ordem
+     * @return o quarto com tipo e status preenchidos
+     */
+    public static Room roomWithDependencies(Row row) {
+        Room room = room(row);
+
+        TypeRoom typeRoom = new TypeRoom(room.getTypeRoomId(), row.get(TYPE_ROOM_NAME, String.class));
+        typeRoom.setCreatedAt(row.get(TYPE_ROOM_CREATED_AT, LocalDateTime.class));
+        typeRoom.setUpdatedAt(row.get(TYPE_ROOM_UPDATED_AT, LocalDateTime.class));
+        typeRoom.setVersion(row.get(TYPE_ROOM_VERSION, Long.class));
+        room.setTypeRoom(typeRoom);
+
+        StatusRoom statusRoom = new StatusRoom(room.getStatusRoomId(), row.get(STATUS_ROOM_DESCRIPTION, String.class));
+        statusRoom.setCreatedAt(row.get(STATUS_ROOM_CREATED_AT, LocalDateTime.class));
+        statusRoom.setUpdatedAt(row.get(STATUS_ROOM_UPDATED_AT, LocalDateTime.class));
+        statusRoom.setVersion(row.get(STATUS_ROOM_VERSION, Long.class));
+        room.setStatusRoom(statusRoom);
+
+        return room;
+    }
+
+    /**
+     * Lê as colunas de um tipo de quarto, na ordem de sua tabela.
+     *
+     * @param row a linha com {@code type_rom_id, name, created_at, updated_at, version}
+     * @return o tipo de quarto correspondente
+     */
+    public static TypeRoom typeRoom(Row row) {
+        TypeRoom typeRoom = new TypeRoom(row.get(REFERENCE_ID, Long.class), row.get(REFERENCE_NAME, String.class));
+        typeRoom.setCreatedAt(row.get(REFERENCE_CREATED_AT, LocalDateTime.class));
+        typeRoom.setUpdatedAt(row.get(REFERENCE_UPDATED_AT, LocalDateTime.class));
+        typeRoom.setVersion(row.get(REFERENCE_VERSION, Long.class));
+        return typeRoom;
+    }
+
+    /**
+     * Lê as colunas de um status de quarto, na ordem de sua tabela.
+     *
+     * @param row a linha com {@code status_rom_id, description, created_at, updated_at, version}
+     * @return o status de quarto correspondente
+     */
+    public static StatusRoom statusRoom(Row row) {
+        StatusRoom statusRoom = new StatusRoom(row.get(REFERENCE_ID, Long.class), row.get(REFERENCE_NAME, String.class));
+        statusRoom.setCreatedAt(row.get(REFERENCE_CREATED_AT, LocalDateTime.class));
+        statusRoom.setUpdatedAt(row.get(REFERENCE_UPDATED_AT, LocalDateTime.class));
+        statusRoom.setVersion(row.get(REFERENCE_VERSION, Long.class));
+        return statusRoom;
+    }
+
+    /**
+     * Lê uma linha da consulta projetada, por nome, apenas com as colunas
+     * selecionadas para a projeção. Os demais campos ficam nulos.
+     *
+     * @param row a linha da consulta montada para {@code projection}
+     * @param projection os campos e relações selecionados
+     * @return o quarto com os campos selecionados e, se expandidos, tipo e status
+     */
+    public static Room projected(Row row, RoomProjection projection) {
+        Room room = new Room();
+        room.setId(row.get("room_id", Long.class));
+        if (projection.includes(RoomProjection.Field.ROOM_NUMBER)) {
+            room.setRoomNumber(row.get("room_number", Integer.class));
+        }
+        if (projection.includes(RoomProjection.Field.DAILY_RATE)) {
+            room.setDailyRate(row.get("daily_rate", BigDecimal.class));
+        }
+        if (projection.includes(RoomProjection.Field.TYPE_ROOM_ID) || projection.typeRoom()) {
+            room.setTypeRoomId(row.get("type_room_id", Long.class));
+        }
+        if (projection.includes(RoomProjection.Field.STATUS_ROOM_ID) || projection.statusRoom()) {
+            room.setStatusRoomId(row.get("status_room_id", Long.class));
+        }
+        if (projection.includes(RoomProjection.Field.VERSION)) {
+            room.setVersion(row.get("version", Long.class));
+        }
+
+        if (projection.typeRoom()) {
+            TypeRoom typeRoom = new TypeRoom(room.getTypeRoomId(), row.get("type_room_name", String.class));
+            typeRoom.setCreatedAt(row.get("type_room_created_at", LocalDateTime.class));
+            typeRoom.setUpdatedAt(row.get("type_room_updated_at", LocalDateTime.class));
+            typeRoom.setVersion(row.get("type_room_version", Long.class));
+            room.setTypeRoom(typeRoom);
+        }
+        if (projection.statusRoom()) {
+            StatusRoom statusRoom = new StatusRoom(room.getStatusRoomId(), row.get("status_room_description", String.class));
+            statusRoom.setCreatedAt(row.get("status_room_created_at", LocalDateTime.class));
+            statusRoom.setUpdatedAt(row.get("status_room_updated_at", LocalDateTime.class));
+            statusRoom.setVersion(row.get("status_room_version", Long.class));
+            room.setStatusRoom(statusRoom);
+        }
+        return room;
+    }
+}
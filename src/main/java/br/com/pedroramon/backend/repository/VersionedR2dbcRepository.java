@@ -0,0 +1,179 @@
+package br.com.pedroramon.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.repository.query.RelationalEntityInformation;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementação base dos repositórios da aplicação.
+ *
+ * Estende {@link SimpleR2dbcRepository} com {@link #updateVersioned(Object)},
+ * que atualiza uma entidade em uma única instrução
+ * {@code UPDATE ... WHERE id = ? AND version = ? RETURNING *}, sem sobrescrever
+ * a data de criação. A classe é registrada como {@code repositoryBaseClass} em
+ * {@link br.com.pedroramon.backend.config.R2dbcConfig}.
+ *
+ * Para as entidades com leitor escrito à mão em {@link RowReaders}, as leituras
+ * por ID e completas ({@code findById}, {@code findAllById} e {@code findAll})
+ * e a linha devolvida por {@link #updateVersioned(Object)} selecionam as colunas
+ * do leitor e são lidas por posição, sem o mapeamento por reflexão.
+ *
+ * @param <T> O tipo da entidade.
+ * @param <ID> O tipo do ID da entidade.
+ */
+public class VersionedR2dbcRepository<T, ID> extends SimpleR2dbcRepository<T, ID> {
+
+    private final RelationalPersistentEntity<T> persistentEntity;
+    private final R2dbcEntityOperations entityOperations;
+    private final R2dbcConverter converter;
+    private final RowReaders.EntityReader<T> reader;
+
+    @SuppressWarnings("unchecked")
+    public VersionedR2dbcRepository(RelationalEntityInformation<T, ID> entity,
+                                    R2dbcEntityOperations entityOperations, R2dbcConverter converter) {
+        super(entity, entityOperations, converter);
+        this.entityOperations = entityOperations;
+        this.converter = converter;
+        this.persistentEntity = (RelationalPersistentEntity<T>) converter.getMappingContext()
+                .getRequiredPersistentEntity(entity.getJavaType());
+        this.reader = RowReaders.forEntity(entity.getJavaType());
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        if (reader == null) {
+            return super.findAll();
+        }
+        return entityOperations.getDatabaseClient().sql(selectColumns())
+                .map((row, metadata) -> reader.read(row))
+                .all();
+    }
+
+    @Override
+    public Mono<T> findById(ID id) {
+        if (reader == null) {
+            return super.findById(id);
+        }
+        return entityOperations.getDatabaseClient().sql(selectColumns() + " WHERE " + idColumn() + " = :id")
+                .bind("id", id)
+                .map((row, metadata) -> reader.read(row))
+                .one();
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<ID> ids) {
+        if (reader == null) {
+            return super.findAllById(ids);
+        }
+        List<ID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        if (idList.isEmpty()) {
+            return Flux.empty();
+        }
+        return entityOperations.getDatabaseClient().sql(selectColumns() + " WHERE " + idColumn() + " IN (:ids)")
+                .bind("ids", idList)
+                .map((row, metadata) -> reader.read(row))
+                .all();
+    }
+
+    /**
+     * Atualiza a entidade em uma única instrução, verificando a versão quando informada.
+     *
+     * Todas as colunas são gravadas, exceto o ID, a versão e a data de criação.
+     * A data de modificação é renovada e a versão é incrementada no banco. Quando
+     * a entidade não informa versão, a atualização é feita apenas pelo ID.
+     *
+     * A linha gravada é devolvida pela própria instrução ({@code RETURNING}),
+     * com a data de criação e a versão como estão no banco.
+     *
+     * @param entity A entidade com os dados atualizados.
+     * @return Um {@link Mono} com a entidade como foi gravada, ou vazio se o ID
+     *         não existir ou a versão estiver desatualizada.
+     */
+    public Mono<T> updateVersioned(T entity) {
+        PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+        RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+        RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+        RelationalPersistentProperty createdProperty = persistentEntity.getPersistentProperty(CreatedDate.class);
+        RelationalPersistentProperty modifiedProperty = persistentEntity.getPersistentProperty(LastModifiedDate.class);
+
+        if (modifiedProperty != null && LocalDateTime.class.equals(modifiedProperty.getType())) {
+            accessor.setProperty(modifiedProperty, LocalDateTime.now());
+        }
+        Object id = accessor.getProperty(idProperty);
+        Long expectedVersion = versionProperty == null ? null : (Long) accessor.getProperty(versionProperty);
+
+        OutboundRow row = new OutboundRow();
+        converter.write(entity, row);
+
+        List<String> assignments = new ArrayList<>();
+        List<SqlIdentifier> columns = new ArrayList<>();
+        row.forEach((column, value) -> {
+            if (isColumnOf(idProperty, column) || isColumnOf(versionProperty, column) || isColumnOf(createdProperty, column)) {
+                return;
+            }
+            columns.add(column);
+            assignments.add(toSql(column) + " = :" + column.getReference());
+        });
+        if (versionProperty != null) {
+            String versionColumn = toSql(versionProperty.getColumnName());
+            assignments.add(versionColumn + " = " + versionColumn + " + 1");
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE ")
+                .append(toSql(persistentEntity.getTableName()))
+                .append(" SET ").append(String.join(", ", assignments))
+                .append(" WHERE ").append(toSql(idProperty.getColumnName())).append(" = :entityId");
+        if (expectedVersion != null) {
+            sql.append(" AND ").append(toSql(versionProperty.getColumnName())).append(" = :expectedVersion");
+        }
+        sql.append(" RETURNING ").append(reader == null ? "*" : reader.columns());
+
+        DatabaseClient.GenericExecuteSpec spec = entityOperations.getDatabaseClient().sql(sql.toString());
+        for (SqlIdentifier column : columns) {
+            spec = spec.bind(column.getReference(), row.get(column));
+        }
+        spec = spec.bind("entityId", Parameter.fromOrEmpty(id, idProperty.getType()));
+        if (expectedVersion != null) {
+            spec = spec.bind("expectedVersion", expectedVersion);
+        }
+
+        return spec.map((updated, metadata) -> reader == null
+                        ? converter.read(persistentEntity.getType(), updated, metadata)
+                        : reader.read(updated))
+                .one();
+    }
+
+    private String selectColumns() {
+        return "SELECT " + reader.columns() + " FROM " + toSql(persistentEntity.getTableName());
+    }
+
+    private String idColumn() {
+        return toSql(persistentEntity.getRequiredIdProperty().getColumnName());
+    }
+
+    private String toSql(SqlIdentifier identifier) {
+        return entityOperations.getDataAccessStrategy().toSql(identifier);
+    }
+
+    private static boolean isColumnOf(RelationalPersistentProperty property, SqlIdentifier column) {
+        return property != null && property.getColumnName().equals(column);
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.pedroramon.backend.service;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import br.com.pedroramon.backend.exception.ResourceNotFoundException;
+import br.com.pedroramon.backend.model.IEntity;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Agrupa buscas por ID feitas por requisições diferentes em consultas por lote.
+ *
+ * Os IDs pedidos dentro de uma janela de tempo, ou até completar o tamanho
+ * máximo do lote, são resolvidos por uma única consulta, e cada entidade é
+ * entregue a quem a pediu. IDs que não existem terminam com
+ * {@link ResourceNotFoundException} apenas para quem os pediu; uma falha da
+ * consulta é entregue a todos os pedidos do lote.
+ *
+ * Os pedidos entram por um {@link FluxSink}, que serializa as emissões de
+ * threads concorrentes sem espera ativa nas threads de I/O.
+ *
+ * @param <T> O tipo da entidade carregada.
+ */
+final class BatchLoader<T extends IEntity> {
+
+    private final FluxSink<Pending<T>> requests;
+    private final Disposable subscription;
+
+    /**
+     * @param loader Consulta as entidades dos IDs informados, em uma única consulta.
+     * @param window Tempo máximo de espera para completar um lote.
+     * @param maxSize Quantidade máxima de pedidos em um lote.
+     * @param onBatch Recebe a quantidade de pedidos de cada lote consultado.
+     */
+    BatchLoader(Function<Set<Long>, Flux<T>> loader, Duration window, int maxSize, IntConsumer onBatch) {
+        AtomicReference<FluxSink<Pending<T>>> sink = new AtomicReference<>();
+        this.subscription = Flux.<Pending<T>>create(sink::set)
+                .bufferTimeout(maxSize, window)
+                .flatMap(batch -> {
+                    onBatch.accept(batch.size());
+                    return resolve(batch, loader);
+                })
+                .subscribe();
+        this.requests = sink.get();
+    }
+
+    /**
+     * Pede a entidade do ID informado, que será consultada no próximo lote.
+     * O pedido é feito na assinatura do {@link Mono} retornado.
+     *
+     * @param id O ID da entidade.
+     * @return Um {@link Mono} com a entidade, ou um erro {@link ResourceNotFoundException}
+     *         se ela não existir.
+     */
+    Mono<T> load(Long id) {
+        return Mono.defer(() -> {
+            if (subscription.isDisposed()) {
+                return Mono.error(new IllegalStateException("Agrupamento de buscas encerrado"));
+            }
+            Pending<T> pending = new Pending<>(id, Sinks.one());
+            requests.next(pending);
+            return pending.result().asMono();
+        });
+    }
+
+    /**
+     * Encerra o agrupamento. Pedidos feitos depois disso terminam com erro.
+     */
+    void dispose() {
+        requests.complete();
+        subscription.dispose();
+    }
+
+    private Mono<Void> resolve(List<Pending<T>> batch, Function<Set<Long>, Flux<T>> loader) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Pending<T> pending : batch) {
+            ids.add(pending.id());
+        }
+        return Flux.defer(() -> loader.apply(ids))
+                .collectMap(IEntity::getId)
+                .doOnNext(found -> complete(batch, found))
+                .doOnError(error -> batch.forEach(pending -> pending.result().tryEmitError(error)))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void complete(List<Pending<T>> batch, Map<Long, T> found) {
+        for (Pending<T> pending : batch) {
+            T entity = found.get(pending.id());
+            if (entity != null) {
+                pending.result().tryEmitValue(entity);
+            } else {
+                pending.result().tryEmitError(
+                        new ResourceNotFoundException("Object not found with id: " + pending.id()));
+            }
+        }
+    }
+
+    private record Pending<T>(Long id, Sinks.One<T> result) {}
+}
@@ -0,0 +1,26 @@
+package br.com.pedroramon.backend.service;
+
+/**
+ * Resultado de um item de uma operação em lote.
+ *
+ * Cada item do lote termina com a entidade gravada ou com a mensagem do erro
+ * que impediu sua gravação, sem interromper os demais itens.
+ *
+ * @param <T> O tipo da entidade do lote.
+ * @param entity A entidade gravada, ou {@code null} em caso de erro.
+ * @param error A mensagem de erro, ou {@code null} em caso de sucesso.
+ */
+public record BatchOutcome<T>(T entity, String error) {
+
+    public static <T> BatchOutcome<T> success(T entity) {
+        return new BatchOutcome<>(entity, null);
+    }
+
+    public static <T> BatchOutcome<T> failure(String error) {
+        return new BatchOutcome<>(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
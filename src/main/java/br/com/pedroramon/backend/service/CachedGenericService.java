@@ -0,0 +1,267 @@
+package br.com.pedroramon.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.pedroramon.backend.config.ReferenceCacheProperties;
+import br.com.pedroramon.backend.model.IEntity;
+import br.com.pedroramon.backend.repository.IRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serviço genérico com cache em memória para dados de referência.
+ *
+ * Esta classe estende {@link GenericService} e mantém em memória as entidades
+ * lidas por {@link #findById(Long)} e {@link #findAll()}. O cache é limitado
+ * por tamanho e por tempo de vida, é carregado por completo na inicialização
+ * da aplicação e é invalidado pelas operações de escrita do próprio serviço
+ * ({@link #save(IEntity)}, {@link #update(IEntity)} e {@link #delete(Long)}).
+ *
+ * Cada entidade em cache é uma única instância compartilhada: leituras
+ * repetidas do mesmo ID devolvem o mesmo objeto, e {@link #canonicalize(IEntity)}
+ * permite que outros serviços troquem cópias equivalentes por essa instância.
+ * As instâncias compartilhadas são marcadas como somente leitura
+ * ({@link IEntity#markReadOnly()}), e uma entidade lida do banco com versão mais
+ * nova que a do cache (alterada por outro processo, por exemplo) substitui a
+ * instância em cache, em vez de ser trocada por ela.
+ *
+ * @param <T> O tipo da entidade gerenciada, que deve implementar {@link IEntity}.
+ */
+public abstract class CachedGenericService<T extends IEntity> extends GenericService<T>
+        implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(CachedGenericService.class);
+
+    private final Cache<Long, T> cacheById;
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder snapshotHits = new LongAdder();
+    private final LongAdder snapshotMisses = new LongAdder();
+    private final ReferenceCacheProperties properties;
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Construtor da classe {@code CachedGenericService}.
+     *
+     * @param repository O repositório utilizado para acessar os dados do tipo {@code T}.
+     * @param properties As configurações de tamanho, tempo de vida e pré-carga do cache.
+     */
+    protected CachedGenericService(IRepository<T> repository, ReferenceCacheProperties properties) {
+        super(repository);
+        this.properties = properties;
+        this.cacheById = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Recupera todas as entidades, servindo a partir do cache quando houver
+     * uma cópia completa e dentro do tempo de vida configurado.
+     *
+     * @return Um {@link Flux} contendo todas as entidades.
+     */
+    @Override
+    public Flux<T> findAll() {
+        Snapshot<T> current = snapshot.get();
+        if (current != null && !isExpired(current)) {
+            snapshotHits.increment();
+            return timed("findAll", Flux.fromIterable(current.items()));
+        }
+        snapshotMisses.increment();
+        long loadGeneration = generation.get();
+        return timed("findAll", super.findAll()
+                .map(entity -> intern(entity, loadGeneration))
+                .collectList()
+                .doOnNext(items -> {
+                    if (items.size() <= properties.maximumSize() && generation.get() == loadGeneration) {
+                        snapshot.compareAndSet(current, new Snapshot<>(List.copyOf(items), System.nanoTime()));
+                    }
+                })
+                .flatMapIterable(items -> items));
+    }
+
+    /**
+     * Recupera uma entidade pelo ID, consultando o repositório apenas quando ela
+     * não estiver em cache.
+     *
+     * @param id O ID da entidade a ser recuperada.
+     * @return Um {@link Mono} contendo a instância compartilhada da entidade.
+     */
+    @Override
+    public Mono<T> findById(Long id) {
+        T cached = cacheById.getIfPresent(id);
+        if (cached != null) {
+            return timed("findById", Mono.just(cached));
+        }
+        long loadGeneration = generation.get();
+        return timed("findById", super.findById(id).map(entity -> intern(entity, loadGeneration)));
+    }
+
+    /**
+     * Recupera as entidades correspondentes aos IDs informados, consultando o
+     * repositório, em uma única consulta, apenas pelos IDs que não estiverem em cache.
+     *
+     * @param ids Os IDs das entidades a serem recuperadas.
+     * @return Um {@link Flux} contendo as instâncias compartilhadas das entidades encontradas.
+     */
+    @Override
+    public Flux<T> findAllById(Iterable<Long> ids) {
+        List<T> cached = new ArrayList<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long id : ids) {
+            T entity = cacheById.getIfPresent(id);
+            if (entity != null) {
+                cached.add(entity);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return timed("findAllById", Flux.fromIterable(cached));
+        }
+        long loadGeneration = generation.get();
+        return timed("findAllById", Flux.fromIterable(cached)
+                .concatWith(super.findAllById(missing).map(entity -> intern(entity, loadGeneration))));
+    }
+
+    @Override
+    public Mono<T> save(T object) {
+        return timed("save", super.save(object).doOnNext(saved -> invalidate(saved.getId())));
+    }
+
+    @Override
+    public Mono<T> update(T object) {
+        return timed("update", super.update(object).doOnNext(updated -> invalidate(updated.getId())));
+    }
+
+    @Override
+    public Mono<Void> delete(Long id) {
+        return timed("delete", super.delete(id).then(Mono.fromRunnable(() -> invalidate(id))));
+    }
+
+    /**
+     * Troca uma entidade lida por outro caminho (por exemplo, uma consulta unida)
+     * pela instância compartilhada mantida em cache, registrando-a caso ainda não
+     * exista ou seja mais nova que a do cache.
+     *
+     * @param entity A entidade a ser canonizada; pode ser {@code null}.
+     * @return A instância compartilhada, somente leitura, correspondente ao mesmo ID.
+     */
+    public T canonicalize(T entity) {
+        return intern(entity, generation.get());
+    }
+
+    /**
+     * Registra uma ação executada sempre que uma escrita do serviço invalida o
+     * cache, para que caches derivados destas entidades também sejam refeitos.
+     *
+     * @param listener A ação executada após cada inclusão, alteração ou exclusão.
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Obtém os contadores de acertos e falhas do cache.
+     *
+     * @return As estatísticas acumuladas do cache deste serviço.
+     */
+    public CacheStatistics cacheStatistics() {
+        var stats = cacheById.stats();
+        return new CacheStatistics(
+                stats.hitCount() + snapshotHits.sum(),
+                stats.missCount() + snapshotMisses.sum(),
+                stats.evictionCount(),
+                cacheById.estimatedSize());
+    }
+
+    /**
+     * Carrega todas as entidades no cache assim que a aplicação estiver pronta.
+     *
+     * @param event O evento de aplicação pronta.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!properties.preload()) {
+            return;
+        }
+        findAll().count().subscribe(
+                count -> log.info("Cache de {} carregado com {} entidades", getClass().getSimpleName(), count),
+                ex -> log.warn("Falha ao carregar o cache de {}: {}", getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    private T intern(T entity, long loadGeneration) {
+        if (entity == null || entity.getId() == null || generation.get() != loadGeneration) {
+            return entity;
+        }
+        entity.markReadOnly();
+        return cacheById.asMap().merge(entity.getId(), entity, (cached, loaded) -> {
+            if (!isNewer(loaded, cached)) {
+                return cached;
+            }
+            snapshot.set(null);
+            return loaded;
+        });
+    }
+
+    /**
+     * Compara pela versão e, sem versões diferentes para comparar, pela data de
+     * atualização.
+     */
+    private static boolean isNewer(IEntity loaded, IEntity cached) {
+        if (loaded.getVersion() != null && cached.getVersion() != null
+                && !loaded.getVersion().equals(cached.getVersion())) {
+            return loaded.getVersion() > cached.getVersion();
+        }
+        return loaded.getUpdatedAt() != null
+                && (cached.getUpdatedAt() == null || loaded.getUpdatedAt().isAfter(cached.getUpdatedAt()));
+    }
+
+    private void invalidate(Long id) {
+        generation.incrementAndGet();
+        snapshot.set(null);
+        if (id != null) {
+            cacheById.invalidate(id);
+        }
+        for (Runnable listener : changeListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException ex) {
+                log.warn("Falha ao notificar a alteração de {}: {}", getClass().getSimpleName(), ex.getMessage());
+            }
+        }
+    }
+
+    private boolean isExpired(Snapshot<T> current) {
+        return System.nanoTime() - current.loadedAtNanos() > properties.expireAfterWrite().toNanos();
+    }
+
+    private record Snapshot<T>(List<T> items, long loadedAtNanos) {}
+
+    /**
+     * Estatísticas do cache de dados de referência.
+     *
+     * @param hits Quantidade de leituras atendidas pelo cache.
+     * @param misses Quantidade de leituras que precisaram consultar o repositório.
+     * @param evictions Quantidade de entradas removidas por tamanho ou tempo de vida.
+     * @param size Quantidade aproximada de entidades em cache.
+     */
+    public record CacheStatistics(long hits, long misses, long evictions, long size) {}
+}
@@ -1,10 +1,19 @@
 package br.com.pedroramon.backend.service;
 
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import br.com.pedroramon.backend.config.LookupBatchProperties;
+import br.com.pedroramon.backend.exception.ConflictException;
 import br.com.pedroramon.backend.exception.InvalidDataException;
 import br.com.pedroramon.backend.exception.ResourceNotFoundException;
 import br.com.pedroramon.backend.model.IEntity;
 import br.com.pedroramon.backend.repository.IRepository;
 import br.com.pedroramon.backend.service.interfaces.IService;
+import jakarta.annotation.PreDestroy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -24,6 +33,23 @@ public abstract class GenericService<T extends IEntity> implements IService<T> {
 
     protected final IRepository<T> repository;
 
+    /**
+     * Nome simples da entidade gerenciada, usado para marcar as métricas.
+     */
+    private final String entityName;
+
+    private ServiceMetrics serviceMetrics = ServiceMetrics.NOOP;
+
+    /**
+     * Consultas por ID em andamento, compartilhadas entre assinaturas concorrentes.
+     */
+    private final SingleFlight<Long, T> findByIdInFlight;
+
+    /**
+     * Agrupa as buscas por ID em consultas por lote, quando configurado.
+     */
+    private BatchLoader<T> batchLoader;
+
     /**
      * Construtor da classe {@code GenericService}.
      *
@@ -40,6 +66,93 @@ public abstract class GenericService<T extends IEntity> implements IService<T> {
      */
     public GenericService(IRepository<T> repository) {
         this.repository = repository;
+        Class<?> entityType = GenericTypeResolver.resolveTypeArgument(getClass(), GenericService.class);
+        this.entityName = entityType != null ? entityType.getSimpleName() : getClass().getSimpleName();
+        this.findByIdInFlight = new SingleFlight<>(() -> serviceMetrics.coalesced(entityName, "findById"));
+    }
+
+    /**
+     * Define as métricas das operações do serviço. Sem métricas configuradas,
+     * as operações não são medidas.
+     *
+     * @param serviceMetrics As métricas de latência e vazão dos serviços.
+     */
+    @Autowired(required = false)
+    public void setServiceMetrics(ServiceMetrics serviceMetrics) {
+        this.serviceMetrics = serviceMetrics;
+    }
+
+    /**
+     * Define o agrupamento das buscas por ID em consultas por lote. Sem essa
+     * configuração, ou com ela desabilitada, cada busca consulta um único ID.
+     *
+     * @param properties A janela e o tamanho máximo dos lotes.
+     */
+    @Autowired(required = false)
+    public void setLookupBatchProperties(LookupBatchProperties properties) {
+        close();
+        if (properties.enabled()) {
+            this.batchLoader = new BatchLoader<>(repository::findAllById, properties.window(), properties.maxSize(),
+                    size -> serviceMetrics.batchLoaded(entityName, size, properties.maxSize()));
+        }
+    }
+
+    /**
+     * Encerra o agrupamento das buscas por ID, se houver, no desligamento da aplicação.
+     */
+    @PreDestroy
+    public void close() {
+        if (batchLoader != null) {
+            batchLoader.dispose();
+            batchLoader = null;
+        }
+    }
+
+    /**
+     * Mede uma operação do serviço a partir da assinatura do {@link Mono} retornado.
+     *
+     * @param operation O nome da operação.
+     * @param source O fluxo da operação.
+     * @return O mesmo fluxo, medido por {@link ServiceMetrics}.
+     */
+    protected <R> Mono<R> timed(String operation, Mono<R> source) {
+        return serviceMetrics.timed(entityName, operation, source);
+    }
+
+    /**
+     * Mede uma operação do serviço a partir da assinatura do {@link Flux} retornado.
+     *
+     * @param operation O nome da operação.
+     * @param source O fluxo da operação.
+     * @return O mesmo fluxo, medido por {@link ServiceMetrics}.
+     */
+    protected <R> Flux<R> timed(String operation, Flux<R> source) {
+        return serviceMetrics.timed(entityName, operation, source);
+    }
+
+    /**
+     * Executa a consulta por ID, ou se junta à consulta do mesmo ID que já
+     * estiver em andamento neste serviço. O resultado não é guardado: uma
+     * assinatura feita após o término da consulta executa uma nova consulta.
+     *
+     * @param id O ID da entidade.
+     * @param lookup Cria a consulta ao repositório.
+     * @return Um {@link Mono} com a entidade encontrada, ou vazio.
+     */
+    protected Mono<T> coalesceById(Long id, Supplier<Mono<T>> lookup) {
+        return findByIdInFlight.execute(id, lookup);
+    }
+
+    /**
+     * Descarta a consulta por ID em andamento, para que leituras iniciadas
+     * após uma escrita não recebam o resultado de uma consulta anterior a ela.
+     *
+     * @param id O ID da entidade alterada.
+     */
+    protected void forgetInFlight(Long id) {
+        if (id != null) {
+            findByIdInFlight.forget(id);
+        }
     }
 
     /**
@@ -49,7 +162,7 @@ public abstract class GenericService<T extends IEntity> implements IService<T> {
      */
     @Override
     public Flux<T> findAll() {
-        return repository.findAll();
+        return timed("findAll", repository.findAll());
     }
 
     /**
@@ -57,7 +170,9 @@ public abstract class GenericService<T extends IEntity> implements IService<T> {
      *
      * Este método tenta encontrar a entidade correspondente ao ID fornecido. Se a entidade
      * não for encontrada, uma exceção {@link ResourceNotFoundException} será lançada, indicando
-     * que não há um objeto associado ao ID informado.
+     * que não há um objeto associado ao ID informado. Buscas concorrentes pelo
+     * mesmo ID compartilham uma única consulta ao repositório, e buscas por IDs
+     * diferentes podem ser agrupadas em uma consulta por lote.
      *
      * @param id O ID da entidade a ser recuperada.
      * @return Um {@link Mono} contendo a entidade encontrada, ou um erro se não for encontrada.
@@ -65,8 +180,20 @@ public abstract class GenericService<T extends IEntity> implements IService<T> {
      */
     @Override
     public Mono<T> findById(Long id) {
-        return repository.findById(id)
-            .switchIfEmpty(Mono.error(new ResourceNotFoundException("Object not found with id: " + id)));
+        return timed("findById", coalesceById(id, () -> batchLoader != null ? batchLoader.load(id) : repository.findById(id))
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Object not found with id: " + id))));
+    }
+
+    /**
+     * Recupera as entidades do tipo {@code T} correspondentes aos IDs informados,
+     * em uma única consulta ao repositório.
+     *
+     * @param ids Os IDs das entidades a serem recuperadas.
+     * @return Um {@link Flux} contendo as entidades encontradas.
+     */
+    @Override
+    public Flux<T> findAllById(Iterable<Long> ids) {
+        return timed("findAllById", repository.findAllById(ids));
     }
 
     /**
@@ -75,7 +202,8 @@ public abstract class GenericService<T extends IEntity> implements IService<T> {
      * Este método realiza a operação de salvamento da entidade fornecida. 
      * Caso ocorra um erro durante o processo de salvamento, uma exceção 
      * {@link InvalidDataException} será lançada, contendo informações sobre
-     * o erro que ocorreu. 
+     * o erro que ocorreu. Violações de restrições do banco de dados são
+     * convertidas por {@link #translateIntegrityViolation(DataIntegrityViolationException)}.
      *
      * @param object A entidade a ser salva, que deve ser uma instância da
      *               classe {@code T} que implementa a interface {@link IEntity}.
@@ -86,8 +214,24 @@ public abstract class GenericService<T extends IEntity> implements IService<T> {
      */
     @Override
     public Mono<T> save(T object) {
-        return repository.save(object)
-            .onErrorMap(ex -> new InvalidDataException("Error saving object: " + ex.getMessage()));
+        return timed("save", repository.save(object)
+            .onErrorMap(ex -> ex instanceof DataIntegrityViolationException violation
+                    ? translateIntegrityViolation(violation)
+                    : new InvalidDataException("Error saving object: " + ex.getMessage())));
+    }
+
+    /**
+     * Converte uma violação de restrição do banco de dados (índice único, chave
+     * estrangeira etc.) na exceção devolvida ao chamador.
+     *
+     * As subclasses podem sobrescrever este método para transformar violações
+     * de restrições conhecidas em mensagens de negócio.
+     *
+     * @param ex A violação lançada pelo repositório.
+     * @return A exceção a ser propagada. Por padrão, uma {@link InvalidDataException}.
+     */
+    protected Throwable translateIntegrityViolation(DataIntegrityViolationException ex) {
+        return new InvalidDataException("Error saving object: " + ex.getMessage());
     }
 
     /**
@@ -100,28 +244,45 @@ public abstract class GenericService<T extends IEntity> implements IService<T> {
      */
     @Override
     public Mono<Void> delete(Long id) {
-        return repository.deleteById(id);
+        return timed("delete", repository.deleteById(id)
+            .doOnTerminate(() -> forgetInFlight(id)));
     }
 
     /**
      * Atualiza uma entidade existente do tipo {@code T}.
      *
-     * Este método busca a entidade pelo ID e, se encontrada, atualiza seus dados.
-     * Caso a entidade não seja encontrada, uma exceção {@link ResourceNotFoundException}
-     * é lançada.
+     * A atualização é feita em uma única instrução, que preserva a data de criação
+     * e, quando a entidade informa sua versão, só é aplicada se a versão armazenada
+     * for a mesma. Apenas quando nenhuma linha é atualizada o repositório é
+     * consultado novamente, para diferenciar uma entidade inexistente de uma
+     * alteração concorrente.
      *
      * @param object A entidade com os dados atualizados.
-     * @return Um {@link Mono} contendo a entidade atualizada ou um erro se a entidade
-     *         não for encontrada.
+     * @return Um {@link Mono} contendo a entidade como foi gravada no banco, com a
+     *         data de criação e a nova versão, ou um erro se a entidade não for
+     *         encontrada ou tiver sido alterada por outra requisição.
      * @throws ResourceNotFoundException Se a entidade não for encontrada.
+     * @throws ConflictException Se a versão informada estiver desatualizada.
      */
     @Override
     public Mono<T> update(T object) {
-        return repository.findById(object.getId())
-            .flatMap(existingObject -> {
-                object.setCreatedAt(existingObject.getCreatedAt());
-                return repository.save(object);
-            })
-            .switchIfEmpty(Mono.error(new ResourceNotFoundException("Object not found with id: " + object.getId())));
+        return timed("update", repository.updateVersioned(object)
+            .onErrorMap(DataIntegrityViolationException.class, this::translateIntegrityViolation)
+            .doOnTerminate(() -> forgetInFlight(object.getId()))
+            .switchIfEmpty(Mono.defer(() -> explainFailedUpdate(object))));
+    }
+
+    /**
+     * Determina por que uma atualização não alterou nenhuma linha.
+     *
+     * @param object A entidade que deveria ter sido atualizada.
+     * @return Um {@link Mono} com {@link ConflictException} se a entidade existir,
+     *         ou {@link ResourceNotFoundException} caso contrário.
+     */
+    private Mono<T> explainFailedUpdate(T object) {
+        return repository.existsById(object.getId())
+            .flatMap(exists -> Mono.error(exists
+                ? new ConflictException("Object with id " + object.getId() + " was modified by another request")
+                : new ResourceNotFoundException("Object not found with id: " + object.getId())));
     }
 }
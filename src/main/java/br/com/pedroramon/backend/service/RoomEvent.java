@@ -0,0 +1,29 @@
+package br.com.pedroramon.backend.service;
+
+import br.com.pedroramon.backend.model.Room;
+
+/**
+ * Evento de alteração de um quarto.
+ *
+ * @param type O tipo do evento.
+ * @param roomId O ID do quarto.
+ * @param room O estado do quarto após a alteração, ou {@code null} para exclusões.
+ */
+public record RoomEvent(Type type, Long roomId, Room room) {
+
+    public enum Type {
+        /** Estado atual de um quarto, enviado ao assinante antes dos eventos ao vivo. */
+        SNAPSHOT,
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    static RoomEvent of(Type type, Room room) {
+        return new RoomEvent(type, room.getId(), room);
+    }
+
+    static RoomEvent deleted(Long roomId) {
+        return new RoomEvent(Type.DELETED, roomId, null);
+    }
+}
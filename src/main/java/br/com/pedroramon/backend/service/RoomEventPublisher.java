@@ -0,0 +1,132 @@
+package br.com.pedroramon.backend.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import br.com.pedroramon.backend.config.RoomStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Distribui os eventos de quartos da aplicação para todos os assinantes.
+ *
+ * Os eventos são publicados em um {@link Sinks.Many} multicast sem buffer
+ * próprio, com as emissões serializadas por um lock curto em vez de espera
+ * ativa; cada assinante tem seu próprio buffer limitado, e um assinante
+ * lento perde eventos conforme {@link RoomStreamProperties#overflow()} sem
+ * atrasar os demais nem quem publica. Eventos descartados são contados em
+ * {@code hotel.rooms.stream.dropped}.
+ */
+@Component
+public class RoomEventPublisher {
+
+    /**
+     * Instância que não publica eventos, usada quando não há publicador configurado.
+     */
+    public static final RoomEventPublisher NOOP = new RoomEventPublisher();
+
+    private final Sinks.Many<RoomEvent> sink;
+    private final Object emitLock = new Object();
+    private final RoomStreamProperties properties;
+    private final Counter dropped;
+
+    @Autowired
+    public RoomEventPublisher(RoomStreamProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.sink = Sinks.unsafe().many().multicast().directBestEffort();
+        this.properties = properties;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.dropped = registry == null ? null : Counter.builder("hotel.rooms.stream.dropped")
+                .description("Eventos de quartos descartados por assinantes lentos")
+                .register(registry);
+    }
+
+    private RoomEventPublisher() {
+        this.sink = null;
+        this.properties = null;
+        this.dropped = null;
+    }
+
+    /**
+     * Publica um evento para os assinantes atuais. Sem assinantes, o evento é descartado.
+     *
+     * @param event O evento a ser publicado.
+     */
+    public void publish(RoomEvent event) {
+        if (sink != null) {
+            synchronized (emitLock) {
+                sink.tryEmitNext(event);
+            }
+        }
+    }
+
+    /**
+     * Assina os eventos publicados a partir deste momento, com o buffer e a
+     * política de descarte configurados.
+     *
+     * @return Um {@link Flux} infinito com os eventos publicados.
+     */
+    public Flux<RoomEvent> events() {
+        if (sink == null) {
+            return Flux.never();
+        }
+        return withOverflowPolicy(sink.asFlux());
+    }
+
+    /**
+     * Emite {@code before} e, em seguida, os eventos publicados desde a
+     * assinatura, inclusive os publicados enquanto {@code before} era emitido.
+     * <p>
+     * Os eventos são assinados antes de {@code before}. Enquanto ele é emitido,
+     * ficam retidos apenas os últimos {@link RoomStreamProperties#bufferSize()}
+     * eventos (ou só o mais recente, com {@code LATEST}), e os mais antigos são
+     * descartados; assim um {@code before} demorado não acumula eventos sem
+     * limite. Depois valem o buffer e a política de descarte de {@link #events()}.
+     *
+     * @param before O fluxo emitido antes dos eventos, como o estado atual.
+     * @return Um {@link Flux} infinito com {@code before} seguido dos eventos.
+     */
+    public Flux<RoomEvent> eventsAfter(Flux<RoomEvent> before) {
+        if (sink == null) {
+            return before.concatWith(Flux.never());
+        }
+        return Flux.defer(() -> {
+            int retained = properties.overflow() == RoomStreamProperties.OverflowPolicy.LATEST
+                    ? 1 : properties.bufferSize();
+            AtomicLong received = new AtomicLong();
+            ConnectableFlux<RoomEvent> pending = sink.asFlux()
+                    .doOnNext(event -> received.incrementAndGet())
+                    .replay(retained);
+            Disposable connection = pending.connect();
+            return Flux.concat(before, Flux.defer(() -> {
+                        onDropped(received.get() - retained);
+                        return withOverflowPolicy(pending);
+                    }))
+                    .doFinally(signal -> connection.dispose());
+        });
+    }
+
+    private Flux<RoomEvent> withOverflowPolicy(Flux<RoomEvent> live) {
+        if (properties.overflow() == RoomStreamProperties.OverflowPolicy.LATEST) {
+            return live.onBackpressureLatest();
+        }
+        return live.onBackpressureBuffer(properties.bufferSize(), this::onDropped, BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    private void onDropped(RoomEvent event) {
+        onDropped(1);
+    }
+
+    private void onDropped(long count) {
+        if (dropped != null && count > 0) {
+            dropped.increment(count);
+        }
+    }
+}
@@ -1,15 +1,36 @@
 package br.com.pedroramon.backend.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
+import br.com.pedroramon.backend.exception.ConflictException;
 import br.com.pedroramon.backend.exception.ResourceNotFoundException;
 import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.model.TypeRoom;
 import br.com.pedroramon.backend.repository.IRoomRepository;
+import br.com.pedroramon.backend.repository.ResourceVersion;
+import br.com.pedroramon.backend.repository.RoomPatch;
+import br.com.pedroramon.backend.repository.RoomProjection;
+import br.com.pedroramon.backend.repository.RoomSearchCriteria;
+import br.com.pedroramon.backend.repository.RoomSort;
 import br.com.pedroramon.backend.service.interfaces.IRoomService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Classe de serviço para gerenciar a lógica de negócio relacionada aos quartos.
@@ -27,6 +48,16 @@ import java.util.function.Function;
  */
 @Service
 public class RoomService extends GenericService<Room> implements IRoomService {
+
+    /**
+     * Nome do índice único que garante a unicidade do número do quarto.
+     */
+    static final String ROOM_NUMBER_UNIQUE_INDEX = "ux_rooms_room_number";
+
+    /**
+     * Valor mínimo da diária de um quarto.
+     */
+    static final BigDecimal MIN_DAILY_RATE = new BigDecimal("60.00");
     
     /**
      * Serviço para manipulação de tipos de quartos.
@@ -43,6 +74,11 @@ public class RoomService extends GenericService<Room> implements IRoomService {
      */
     private final IRoomRepository repository;
 
+    /**
+     * Publicador dos eventos de alteração de quartos.
+     */
+    private RoomEventPublisher eventPublisher = RoomEventPublisher.NOOP;
+
     /**
      * Construtor para injeção de dependências.
      * 
@@ -58,23 +94,107 @@ public class RoomService extends GenericService<Room> implements IRoomService {
         this.repository = repository;
     }
 
+    /**
+     * Define o publicador dos eventos de alteração de quartos. Sem publicador
+     * configurado, as alterações não geram eventos.
+     * 
+     * @param eventPublisher O publicador dos eventos de quartos.
+     */
+    @Autowired(required = false)
+    public void setEventPublisher(RoomEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     /**
      * Retorna todos os quartos, associando os tipos e status correspondentes a
      * cada um.
+     * <p>
+     * Os quartos são lidos em uma única consulta unida com {@code type_room} e
+     * {@code status_room}, mantendo a ordenação por {@code room_id}.
      * 
      * @return Um {@link Flux} contendo todos os quartos com suas dependências associadas.
      */
     @Override
     public Flux<Room> findAll() {
-        return this.repository.findAllByOrderByRoomIdAsc()
-                .flatMap(room -> Mono.zip(
-                        typeRoomService.findById(room.getTypeRoomId()),
-                        statusRoomService.findById(room.getStatusRoomId()))
-                        .map(tuple -> {
-                            room.setTypeRoom(tuple.getT1());
-                            room.setStatusRoom(tuple.getT2());
-                            return room;
-                        }));
+        return timed("findAll", this.repository.findAllWithDependencies()
+                .map(this::shareDependencies));
+    }
+
+    /**
+     * Retorna uma página de quartos usando paginação por cursor sobre o ID.
+     * 
+     * @param after ID do último quarto da página anterior, ou {@code null} para a primeira página.
+     * @param limit Quantidade máxima de quartos da página.
+     * @return Um {@link Flux} com os quartos da página e suas dependências associadas.
+     */
+    @Override
+    public Flux<Room> findPage(Long after, int limit) {
+        return timed("findPage", this.repository.findPageWithDependencies(after, limit)
+                .map(this::shareDependencies));
+    }
+
+    /**
+     * Retorna os quartos lendo apenas os campos pedidos. Tipo e status só são
+     * lidos, na mesma consulta, quando expandidos na projeção; os expandidos
+     * são trocados pelas instâncias compartilhadas dos caches.
+     * 
+     * @param projection Os campos e relações a serem lidos.
+     * @param after ID do último quarto da página anterior, ou {@code null} para a primeira página.
+     * @param limit Quantidade máxima de quartos da página, ou {@code null} para todos os quartos.
+     * @return Um {@link Flux} com os quartos, apenas com os campos da projeção preenchidos.
+     */
+    @Override
+    public Flux<Room> findProjected(RoomProjection projection, Long after, Integer limit) {
+        return timed("findProjected", this.repository.findProjected(projection, after, limit)
+                .map(this::shareDependencies));
+    }
+
+    /**
+     * Retorna um quarto pelo ID lendo apenas os campos pedidos.
+     * 
+     * @param id ID do quarto a ser buscado.
+     * @param projection Os campos e relações a serem lidos.
+     * @return Um {@link Mono} com o quarto, apenas com os campos da projeção preenchidos.
+     */
+    @Override
+    public Mono<Room> findProjectedById(Long id, RoomProjection projection) {
+        return timed("findProjectedById", this.repository.findProjectedById(id, projection)
+                .map(this::shareDependencies)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Object not found with id: " + id))));
+    }
+
+    /**
+     * Retorna todos os quartos em modo streaming, limitando a quantidade de
+     * linhas solicitadas ao banco à demanda do consumidor.
+     * 
+     * @param fetchSize Quantidade de linhas buscadas por vez.
+     * @return Um {@link Flux} com todos os quartos e suas dependências associadas.
+     */
+    @Override
+    public Flux<Room> streamAll(int fetchSize) {
+        return timed("streamAll", this.repository.findAllWithDependencies(fetchSize)
+                .limitRate(fetchSize)
+                .map(this::shareDependencies));
+    }
+
+    /**
+     * Acompanha os quartos: emite o estado atual de todos os quartos e, em
+     * seguida, cada alteração publicada.
+     * <p>
+     * O assinante passa a receber os eventos antes da leitura do estado atual,
+     * e os eventos publicados durante a leitura ficam no seu buffer limitado
+     * até que ela termine. Assim nenhuma alteração se perde entre o estado
+     * atual e os eventos ao vivo enquanto o buffer comportar; uma alteração já
+     * refletida no estado atual pode chegar de novo como evento, com a mesma
+     * versão ou uma posterior.
+     * 
+     * @param fetchSize Quantidade de linhas buscadas por vez na leitura do estado atual.
+     * @return Um {@link Flux} infinito com o estado atual seguido dos eventos ao vivo.
+     */
+    @Override
+    public Flux<RoomEvent> watch(int fetchSize) {
+        return this.eventPublisher.eventsAfter(
+                streamAll(fetchSize).map(room -> RoomEvent.of(RoomEvent.Type.SNAPSHOT, room)));
     }
 
     /**
@@ -85,15 +205,9 @@ public class RoomService extends GenericService<Room> implements IRoomService {
      */
     @Override
     public Mono<Room> findById(Long id) {
-        return super.findById(id)
-                .flatMap(room -> Mono.zip(
-                        typeRoomService.findById(room.getTypeRoomId()),
-                        statusRoomService.findById(room.getStatusRoomId()))
-                        .map(tuple -> {
-                            room.setTypeRoom(tuple.getT1());
-                            room.setStatusRoom(tuple.getT2());
-                            return room;
-                        }));
+        return timed("findById", coalesceById(id, () -> this.repository.findByIdWithDependencies(id))
+                .map(this::shareDependencies)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Object not found with id: " + id))));
     }
 
     /**
@@ -104,49 +218,320 @@ public class RoomService extends GenericService<Room> implements IRoomService {
      */
     @Override
     public Mono<Room> findByRoomNumber(Integer roomNumber) {
-        return this.repository.findByRoomNumber(roomNumber)
-                .flatMap(room -> Mono.zip(
-                        typeRoomService.findById(room.getTypeRoomId()),
-                        statusRoomService.findById(room.getStatusRoomId()))
-                        .map(tuple -> {
-                            room.setTypeRoom(tuple.getT1());
-                            room.setStatusRoom(tuple.getT2());
-                            return room;
-                        }));
+        return timed("findByRoomNumber", this.repository.findByRoomNumberWithDependencies(roomNumber)
+                .map(this::shareDependencies));
+    }
+
+    /**
+     * Busca quartos pelos filtros informados. Os filtros e a ordenação são
+     * aplicados pelo banco de dados em uma única consulta, e a página seguinte
+     * começa depois da posição guardada no cursor.
+     * 
+     * @param criteria Os filtros da busca.
+     * @param sort A ordenação dos resultados.
+     * @param cursor O cursor devolvido com a página anterior, ou {@code null} para a primeira página.
+     * @param limit Quantidade máxima de quartos da página.
+     * @return Um {@link Flux} com os quartos da página e suas dependências associadas,
+     *         ou um erro {@link IllegalArgumentException} se o cursor for inválido.
+     */
+    @Override
+    public Flux<Room> search(RoomSearchCriteria criteria, RoomSort sort, String cursor, int limit) {
+        return timed("search", Flux.defer(() -> this.repository.search(criteria, sort, sort.decodeCursor(cursor), limit))
+                .map(this::shareDependencies));
+    }
+
+    /**
+     * Recupera os quartos criados ou alterados depois do instante informado,
+     * pelo índice de {@code updated_at}, incluindo os quartos cujo tipo ou
+     * status foi alterado.
+     * 
+     * @param since O instante da última sincronização.
+     * @return Um {@link Flux} com os quartos alterados e suas dependências associadas.
+     */
+    @Override
+    public Flux<Room> findChangedSince(LocalDateTime since) {
+        return timed("findChangedSince", this.repository.findChangedSince(since)
+                .map(this::shareDependencies));
+    }
+
+    /**
+     * Recupera os IDs dos quartos excluídos depois do instante informado, a
+     * partir das lápides gravadas por {@link #delete(Long)}.
+     * 
+     * @param since O instante da última sincronização.
+     * @return Um {@link Flux} com os IDs dos quartos excluídos.
+     */
+    @Override
+    public Flux<Long> findDeletedSince(LocalDateTime since) {
+        return timed("findDeletedSince", this.repository.findDeletedSince(since));
     }
 
     /**
-     * Salva um novo quarto após validar a taxa diária e verificar a unicidade
-     * do número do quarto.
+     * Resume o estado da coleção de quartos com uma única consulta de agregação,
+     * usada para responder requisições condicionais sem ler os quartos.
+     * 
+     * @return Um {@link Mono} com o resumo da coleção.
+     */
+    @Override
+    public Mono<ResourceVersion> findCollectionVersion() {
+        return timed("findCollectionVersion", this.repository.findCollectionVersion());
+    }
+
+    /**
+     * Resume o estado de um quarto, com tipo e status, lendo apenas as datas
+     * de atualização e as versões.
+     * 
+     * @param id ID do quarto.
+     * @return Um {@link Mono} com o resumo do quarto, ou vazio se ele não existir.
+     */
+    @Override
+    public Mono<ResourceVersion> findVersionById(Long id) {
+        return timed("findVersionById", this.repository.findVersionById(id));
+    }
+
+    /**
+     * Salva um novo quarto após validar a taxa diária. A unicidade do número do
+     * quarto é garantida pelo índice único do banco de dados.
      * 
      * @param room Objeto {@link Room} a ser salvo.
      * @return Um {@link Mono} com o quarto salvo.
      */
     @Override
     public Mono<Room> save(Room room) {
-        return checkRoomNumberUniqueness(room.getRoomNumber())
-                .then(validateDailyRate(room.getDailyRate()))
-                .then(Mono.defer(() -> retrieveDependenciesAndSave(room, super::save))); 
+        return timed("save", validateDailyRate(room.getDailyRate())
+                .then(Mono.defer(() -> retrieveDependenciesAndSave(room, super::save)))
+                .doOnNext(saved -> this.eventPublisher.publish(RoomEvent.of(RoomEvent.Type.CREATED, saved))));
     }
 
     /**
-     * Atualiza um quarto existente após validar a taxa diária e verificar a
-     * unicidade do número do quarto.
+     * Atualiza um quarto existente após validar a taxa diária. A unicidade do
+     * número do quarto é garantida pelo índice único do banco de dados, e a
+     * existência e a versão do quarto são verificadas pela própria instrução
+     * de atualização em {@link GenericService#update}.
      * 
      * @param room Objeto {@link Room} com as informações atualizadas.
      * @return Um {@link Mono} com o quarto atualizado.
      */
     @Override
     public Mono<Room> update(Room room) {
-        return findExistingRoom(room.getId())
-                .flatMap(existingRoom -> {
-                    if (!existingRoom.getRoomNumber().equals(room.getRoomNumber())) {
-                        return checkRoomNumberUniqueness(room.getRoomNumber()).then(Mono.just(existingRoom));
+        return timed("update", validateDailyRate(room.getDailyRate())
+                .then(Mono.defer(() -> retrieveDependenciesAndSave(room, super::update)))
+                .doOnNext(updated -> this.eventPublisher.publish(RoomEvent.of(RoomEvent.Type.UPDATED, updated))));
+    }
+
+    /**
+     * Exclui um quarto e registra sua lápide na mesma instrução, para que a
+     * sincronização incremental informe a exclusão aos clientes.
+     * 
+     * @param id ID do quarto a ser excluído.
+     * @return Um {@link Mono} que indica quando a exclusão é concluída.
+     */
+    @Override
+    public Mono<Void> delete(Long id) {
+        return timed("delete", this.repository.deleteWithTombstone(id, LocalDateTime.now())
+                .doOnTerminate(() -> forgetInFlight(id))
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        this.eventPublisher.publish(RoomEvent.deleted(id));
                     }
-                    return Mono.just(existingRoom);
                 })
-                .then(validateDailyRate(room.getDailyRate()))
-                .then(retrieveDependenciesAndSave(room, super::update));
+                .then());
+    }
+
+    /**
+     * Cria os quartos em lote.
+     * <p>
+     * A taxa diária, a repetição de números dentro do lote e a existência dos
+     * tipos e status são verificadas em memória, com uma única consulta por
+     * tipo de dependência. Os quartos válidos são gravados com inserções de
+     * múltiplas linhas em uma única transação; quartos cujo número já existe no
+     * banco são reportados individualmente, sem impedir os demais.
+     * 
+     * @param rooms Os quartos a serem criados.
+     * @return Um {@link Mono} com o resultado de cada quarto, na mesma ordem da lista recebida.
+     */
+    @Override
+    public Mono<List<BatchOutcome<Room>>> saveAll(List<Room> rooms) {
+        return timed("saveAll", validateBatch(rooms, false).flatMap(outcomes -> {
+            List<Room> pending = pendingRooms(rooms, outcomes);
+            if (pending.isEmpty()) {
+                return Mono.just(outcomes);
+            }
+            return this.repository.insertAll(pending)
+                    .collectList()
+                    .doOnNext(inserted -> publishAll(RoomEvent.Type.CREATED, inserted))
+                    .map(inserted -> completeBatch(rooms, outcomes, inserted,
+                            "Já existe um quarto com o número informado!"))
+                    .onErrorResume(DataIntegrityViolationException.class,
+                            ex -> Mono.just(failPending(outcomes, translateIntegrityViolation(ex).getMessage())));
+        }));
+    }
+
+    /**
+     * Atualiza os quartos em lote.
+     * <p>
+     * Aplica as mesmas verificações de {@link #saveAll(List)} e também rejeita
+     * IDs repetidos no lote. Antes da gravação, os números pretendidos são
+     * comparados aos dos quartos fora do lote, e apenas os quartos cujo número
+     * já está em uso são rejeitados; quartos do lote podem trocar de número
+     * entre si. Os quartos válidos são gravados com atualizações de múltiplas
+     * linhas em uma única transação, verificando a versão de cada quarto quando
+     * informada; quartos inexistentes ou alterados por outra requisição são
+     * reportados individualmente.
+     * 
+     * @param rooms Os quartos a serem atualizados.
+     * @return Um {@link Mono} com o resultado de cada quarto, na mesma ordem da lista recebida.
+     */
+    @Override
+    public Mono<List<BatchOutcome<Room>>> updateAll(List<Room> rooms) {
+        return timed("updateAll", validateBatch(rooms, true)
+                .flatMap(outcomes -> rejectTakenRoomNumbers(rooms, outcomes))
+                .flatMap(outcomes -> {
+                    List<Room> pending = pendingRooms(rooms, outcomes);
+                    if (pending.isEmpty()) {
+                        return Mono.just(outcomes);
+                    }
+                    return this.repository.updateAll(pending)
+                            .doOnNext(updated -> forgetInFlight(updated.getId()))
+                            .collectList()
+                            .doOnNext(updated -> publishAll(RoomEvent.Type.UPDATED, updated))
+                            .map(updated -> completeBatch(rooms, outcomes, updated,
+                                    "Quarto não encontrado ou alterado por outra requisição"))
+                            .onErrorResume(DataIntegrityViolationException.class,
+                                    ex -> Mono.just(failPending(outcomes, translateIntegrityViolation(ex).getMessage())));
+                }));
+    }
+
+    /**
+     * Altera apenas o status de um quarto.
+     * <p>
+     * O status é conferido nos dados de referência em cache e a alteração é
+     * feita em uma única instrução, que verifica a versão do quarto quando
+     * informada. O banco só é consultado novamente quando nenhuma linha é
+     * alterada, para diferenciar um quarto inexistente de uma alteração concorrente.
+     * 
+     * @param id O ID do quarto.
+     * @param statusRoomId O ID do novo status.
+     * @param version A versão esperada do quarto, ou {@code null} para não verificar.
+     * @return Um {@link Mono} com o quarto alterado.
+     * @throws IllegalArgumentException Se o status não existir.
+     * @throws ResourceNotFoundException Se o quarto não for encontrado.
+     * @throws ConflictException Se a versão informada estiver desatualizada.
+     */
+    @Override
+    public Mono<Room> updateStatus(Long id, Long statusRoomId, Long version) {
+        return timed("updateStatus", findStatusRoom(statusRoomId)
+                .flatMap(statusRoom -> this.repository.updateStatus(id, statusRoomId, version)
+                        .doOnTerminate(() -> forgetInFlight(id))
+                        .switchIfEmpty(Mono.defer(() -> explainFailedWrite(id, version)))
+                        .flatMap(room -> attachDependencies(room, statusRoom)))
+                .doOnNext(updated -> this.eventPublisher.publish(RoomEvent.of(RoomEvent.Type.UPDATED, updated))));
+    }
+
+    /**
+     * Altera apenas as colunas informadas de um quarto.
+     * <p>
+     * A taxa diária só é validada quando informada, e o tipo e o status só são
+     * conferidos, nos dados de referência em cache, quando alterados. A
+     * repetição do número do quarto é verificada pelo índice único do banco.
+     * A alteração é feita em uma única instrução, que devolve o quarto alterado.
+     * Uma alteração sem colunas apenas devolve o quarto atual.
+     * 
+     * @param id O ID do quarto.
+     * @param patch As colunas a serem alteradas.
+     * @return Um {@link Mono} com o quarto alterado.
+     * @throws IllegalArgumentException Se a taxa diária for inválida, se o tipo
+     *         ou o status não existirem ou se o número do quarto já estiver em uso.
+     * @throws ResourceNotFoundException Se o quarto não for encontrado.
+     * @throws ConflictException Se a versão informada estiver desatualizada.
+     */
+    @Override
+    public Mono<Room> patch(Long id, RoomPatch patch) {
+        if (patch.isEmpty()) {
+            return findById(id);
+        }
+        Mono<Void> dailyRate = patch.dailyRate() != null ? validateDailyRate(patch.dailyRate()) : Mono.empty();
+        Mono<Void> dependencies = Mono.when(
+                patch.typeRoomId() != null ? typeRoomService.findById(patch.typeRoomId()) : Mono.empty(),
+                patch.statusRoomId() != null ? statusRoomService.findById(patch.statusRoomId()) : Mono.empty())
+            .onErrorMap(ResourceNotFoundException.class,
+                    ex -> new IllegalArgumentException("Tipo ou Status do quarto não encontrado para os IDs fornecidos"));
+        return timed("patch", dailyRate.then(dependencies)
+                .then(Mono.defer(() -> this.repository.patch(id, patch)))
+                .onErrorMap(DataIntegrityViolationException.class, this::translateIntegrityViolation)
+                .doOnTerminate(() -> forgetInFlight(id))
+                .switchIfEmpty(Mono.defer(() -> explainFailedWrite(id, patch.version())))
+                .flatMap(room -> statusRoomService.findById(room.getStatusRoomId())
+                        .flatMap(statusRoom -> attachDependencies(room, statusRoom)))
+                .doOnNext(updated -> this.eventPublisher.publish(RoomEvent.of(RoomEvent.Type.UPDATED, updated))));
+    }
+
+    /**
+     * Altera apenas o status dos quartos informados.
+     * <p>
+     * O status é conferido nos dados de referência em cache e os quartos são
+     * alterados com instruções de múltiplas linhas em uma única transação.
+     * IDs repetidos ou inexistentes são reportados individualmente.
+     * 
+     * @param ids Os IDs dos quartos.
+     * @param statusRoomId O ID do novo status.
+     * @return Um {@link Mono} com o resultado de cada quarto, na mesma ordem da lista recebida.
+     * @throws IllegalArgumentException Se o status não existir.
+     */
+    @Override
+    public Mono<List<BatchOutcome<Room>>> updateStatusAll(List<Long> ids, Long statusRoomId) {
+        return timed("updateStatusAll", findStatusRoom(statusRoomId).flatMap(statusRoom -> {
+            List<BatchOutcome<Room>> outcomes = new ArrayList<>(Collections.nCopies(ids.size(), null));
+            Set<Long> distinctIds = new HashSet<>();
+            List<Long> pending = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                Long id = ids.get(i);
+                if (id == null) {
+                    outcomes.set(i, BatchOutcome.failure("Quarto não encontrado"));
+                } else if (!distinctIds.add(id)) {
+                    outcomes.set(i, BatchOutcome.failure("Quarto repetido no lote"));
+                } else {
+                    pending.add(id);
+                }
+            }
+            if (pending.isEmpty()) {
+                return Mono.just(outcomes);
+            }
+            return this.repository.updateStatusAll(pending, statusRoomId)
+                    .doOnNext(updated -> forgetInFlight(updated.getId()))
+                    .concatMap(updated -> attachDependencies(updated, statusRoom))
+                    .collectList()
+                    .doOnNext(updated -> publishAll(RoomEvent.Type.UPDATED, updated))
+                    .map(updated -> {
+                        Map<Long, Room> byId = new HashMap<>(updated.size() * 2);
+                        updated.forEach(room -> byId.put(room.getId(), room));
+                        for (int i = 0; i < ids.size(); i++) {
+                            if (outcomes.get(i) == null) {
+                                Room room = byId.get(ids.get(i));
+                                outcomes.set(i, room != null
+                                        ? BatchOutcome.success(room)
+                                        : BatchOutcome.failure("Quarto não encontrado"));
+                            }
+                        }
+                        return outcomes;
+                    });
+        }));
+    }
+
+    /**
+     * Converte a violação do índice único de número do quarto na mesma mensagem
+     * de negócio usada pela API para números duplicados.
+     * 
+     * @param ex A violação lançada pelo repositório.
+     * @return Um {@link IllegalArgumentException} para números duplicados, ou a
+     *         conversão padrão para as demais violações.
+     */
+    @Override
+    protected Throwable translateIntegrityViolation(DataIntegrityViolationException ex) {
+        if (mentionsRoomNumberIndex(ex.getMessage()) || mentionsRoomNumberIndex(ex.getMostSpecificCause().getMessage())) {
+            return new IllegalArgumentException("Já existe um quarto com o número informado!");
+        }
+        return super.translateIntegrityViolation(ex);
     }
 
     /**
@@ -156,33 +541,208 @@ public class RoomService extends GenericService<Room> implements IRoomService {
      * @param dailyRate Valor da diária.
      * @return Um {@link Mono} vazio se válido, ou um erro se o valor for menor que R$60,00.
      */
-    private Mono<Void> validateDailyRate(BigDecimal dailyRate) {
-        return dailyRate.compareTo(new BigDecimal("60.00")) < 0
-                ? Mono.error(new IllegalArgumentException("O valor mínimo da diária deve ser 60 reais"))
+    Mono<Void> validateDailyRate(BigDecimal dailyRate) {
+        return isBelowMinimumDailyRate(dailyRate)
+                ? Mono.error(() -> new IllegalArgumentException("O valor mínimo da diária deve ser 60 reais"))
                 : Mono.empty();
     }
 
+    private static boolean isBelowMinimumDailyRate(BigDecimal dailyRate) {
+        return dailyRate.compareTo(MIN_DAILY_RATE) < 0;
+    }
+
     /**
-     * Verifica se já existe um quarto com o número informado.
+     * Verifica em memória os quartos de um lote e associa o tipo e o status de
+     * cada um, buscando todos os tipos e status referenciados de uma só vez.
      * 
-     * @param roomNumber Número do quarto.
-     * @return Um {@link Mono} vazio se único, ou um erro se já existir.
+     * @param rooms Os quartos do lote.
+     * @param requireDistinctIds Se IDs repetidos no lote devem ser rejeitados.
+     * @return Um {@link Mono} com uma lista do tamanho do lote, contendo a falha
+     *         de cada quarto rejeitado e {@code null} para os quartos válidos.
      */
-    private Mono<Void> checkRoomNumberUniqueness(Integer roomNumber) {
-        return this.repository.findByRoomNumber(roomNumber)
-            .flatMap(existingRoom -> Mono.defer(() -> Mono.error(new IllegalArgumentException("Já existe um quarto com o número informado!"))))
-            .then(); // Convertendo para Mono<Void>
+    private Mono<List<BatchOutcome<Room>>> validateBatch(List<Room> rooms, boolean requireDistinctIds) {
+        List<BatchOutcome<Room>> outcomes = new ArrayList<>(Collections.nCopies(rooms.size(), null));
+        Set<Integer> roomNumbers = new HashSet<>();
+        Set<Long> ids = new HashSet<>();
+        Set<Long> typeRoomIds = new HashSet<>();
+        Set<Long> statusRoomIds = new HashSet<>();
+        for (int i = 0; i < rooms.size(); i++) {
+            Room room = rooms.get(i);
+            if (isBelowMinimumDailyRate(room.getDailyRate())) {
+                outcomes.set(i, BatchOutcome.failure("O valor mínimo da diária deve ser 60 reais"));
+            } else if (!roomNumbers.add(room.getRoomNumber())) {
+                outcomes.set(i, BatchOutcome.failure("Número de quarto repetido no lote"));
+            } else if (requireDistinctIds && !ids.add(room.getId())) {
+                outcomes.set(i, BatchOutcome.failure("Quarto repetido no lote"));
+            } else {
+                typeRoomIds.add(room.getTypeRoomId());
+                statusRoomIds.add(room.getStatusRoomId());
+            }
+        }
+        if (typeRoomIds.isEmpty()) {
+            return Mono.just(outcomes);
+        }
+
+        return Mono.zip(
+                typeRoomService.findAllById(typeRoomIds).collectMap(TypeRoom::getId),
+                statusRoomService.findAllById(statusRoomIds).collectMap(StatusRoom::getId))
+            .map(dependencies -> {
+                Map<Long, TypeRoom> typeRooms = dependencies.getT1();
+                Map<Long, StatusRoom> statusRooms = dependencies.getT2();
+                for (int i = 0; i < rooms.size(); i++) {
+                    if (outcomes.get(i) != null) {
+                        continue;
+                    }
+                    Room room = rooms.get(i);
+                    TypeRoom typeRoom = typeRooms.get(room.getTypeRoomId());
+                    StatusRoom statusRoom = statusRooms.get(room.getStatusRoomId());
+                    if (typeRoom == null || statusRoom == null) {
+                        outcomes.set(i, BatchOutcome.failure("Tipo ou Status do quarto não encontrado para os IDs fornecidos"));
+                    } else {
+                        room.setTypeRoom(typeRoom);
+                        room.setStatusRoom(statusRoom);
+                    }
+                }
+                return outcomes;
+            });
     }
 
     /**
-     * Busca um quarto existente pelo ID, lançando um erro se não encontrado.
+     * Rejeita os quartos ainda válidos do lote cujo número pertence a um quarto
+     * fora do lote, com uma única consulta pelos números pretendidos.
+     */
+    private Mono<List<BatchOutcome<Room>>> rejectTakenRoomNumbers(List<Room> rooms, List<BatchOutcome<Room>> outcomes) {
+        List<Room> pending = pendingRooms(rooms, outcomes);
+        if (pending.isEmpty()) {
+            return Mono.just(outcomes);
+        }
+        Set<Long> ids = new HashSet<>();
+        Set<Integer> roomNumbers = new HashSet<>();
+        for (Room room : pending) {
+            ids.add(room.getId());
+            roomNumbers.add(room.getRoomNumber());
+        }
+
+        return this.repository.findAllByRoomNumberIn(roomNumbers)
+                .filter(existing -> !ids.contains(existing.getId()))
+                .map(Room::getRoomNumber)
+                .collect(Collectors.toSet())
+                .map(taken -> {
+                    for (int i = 0; i < rooms.size(); i++) {
+                        if (outcomes.get(i) == null && taken.contains(rooms.get(i).getRoomNumber())) {
+                            outcomes.set(i, BatchOutcome.failure("Já existe um quarto com o número informado!"));
+                        }
+                    }
+                    return outcomes;
+                });
+    }
+
+    private static List<Room> pendingRooms(List<Room> rooms, List<BatchOutcome<Room>> outcomes) {
+        List<Room> pending = new ArrayList<>(rooms.size());
+        for (int i = 0; i < rooms.size(); i++) {
+            if (outcomes.get(i) == null) {
+                pending.add(rooms.get(i));
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Preenche o resultado dos quartos enviados ao banco: os quartos devolvidos
+     * pelo repositório foram gravados, os demais recebem a mensagem informada.
+     */
+    private static List<BatchOutcome<Room>> completeBatch(List<Room> rooms, List<BatchOutcome<Room>> outcomes,
+                                                          List<Room> written, String notWrittenMessage) {
+        Set<Room> writtenRooms = Collections.newSetFromMap(new IdentityHashMap<>(written.size() * 2));
+        writtenRooms.addAll(written);
+        for (int i = 0; i < rooms.size(); i++) {
+            if (outcomes.get(i) == null) {
+                Room room = rooms.get(i);
+                outcomes.set(i, writtenRooms.contains(room)
+                        ? BatchOutcome.success(room)
+                        : BatchOutcome.failure(notWrittenMessage));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Publica um evento para cada quarto gravado em lote, após a confirmação da transação.
+     */
+    private void publishAll(RoomEvent.Type type, List<Room> rooms) {
+        for (Room room : rooms) {
+            this.eventPublisher.publish(RoomEvent.of(type, room));
+        }
+    }
+
+    private static List<BatchOutcome<Room>> failPending(List<BatchOutcome<Room>> outcomes, String message) {
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (outcomes.get(i) == null) {
+                outcomes.set(i, BatchOutcome.failure(message));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Verifica se a mensagem de erro do banco faz referência ao índice único do
+     * número do quarto.
      * 
-     * @param id ID do quarto.
-     * @return Um {@link Mono} com o quarto existente ou erro se não encontrado.
+     * @param message Mensagem de erro, possivelmente nula.
+     * @return {@code true} se a mensagem citar o índice.
      */
-    private Mono<Room> findExistingRoom(Long id) {
-        return this.findById(id)
-                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Quarto não encontrado para atualização!")));
+    private static boolean mentionsRoomNumberIndex(String message) {
+        return message != null && message.toLowerCase(Locale.ROOT).contains(ROOM_NUMBER_UNIQUE_INDEX);
+    }
+
+    /**
+     * Busca o status nos dados de referência em cache, rejeitando IDs inexistentes.
+     */
+    private Mono<StatusRoom> findStatusRoom(Long statusRoomId) {
+        return statusRoomService.findById(statusRoomId)
+                .onErrorMap(ResourceNotFoundException.class,
+                        ex -> new IllegalArgumentException("Status do quarto não encontrado para o ID fornecido"));
+    }
+
+    /**
+     * Associa a um quarto alterado o status já conferido e o tipo mantido em
+     * cache pelo serviço de tipos.
+     */
+    private Mono<Room> attachDependencies(Room room, StatusRoom statusRoom) {
+        return typeRoomService.findById(room.getTypeRoomId())
+                .map(typeRoom -> {
+                    room.setTypeRoom(typeRoom);
+                    room.setStatusRoom(statusRoom);
+                    return room;
+                });
+    }
+
+    /**
+     * Determina por que uma alteração de colunas do quarto não alterou nenhuma
+     * linha. Sem versão informada, o quarto só pode não existir.
+     */
+    private Mono<Room> explainFailedWrite(Long id, Long version) {
+        if (version == null) {
+            return Mono.error(new ResourceNotFoundException("Object not found with id: " + id));
+        }
+        return this.repository.existsById(id)
+                .flatMap(exists -> Mono.error(exists
+                        ? new ConflictException("Object with id " + id + " was modified by another request")
+                        : new ResourceNotFoundException("Object not found with id: " + id)));
+    }
+
+    /**
+     * Substitui o tipo e o status lidos na consulta unida pelas instâncias
+     * compartilhadas mantidas em cache pelos respectivos serviços, evitando uma
+     * cópia por quarto em listagens grandes.
+     * 
+     * @param room Quarto lido com suas dependências.
+     * @return O mesmo quarto, apontando para as instâncias compartilhadas.
+     */
+    private Room shareDependencies(Room room) {
+        room.setTypeRoom(typeRoomService.canonicalize(room.getTypeRoom()));
+        room.setStatusRoom(statusRoomService.canonicalize(room.getStatusRoom()));
+        return room;
     }
 
     /**
@@ -193,14 +753,19 @@ public class RoomService extends GenericService<Room> implements IRoomService {
      * @return Um {@link Mono} com o quarto salvo ou atualizado.
      */
     private Mono<Room> retrieveDependenciesAndSave(Room room, Function<Room, Mono<Room>> saveOrUpdate) {
-        return typeRoomService.findById(room.getTypeRoomId())
+        return timed("retrieveDependenciesAndSave", typeRoomService.findById(room.getTypeRoomId())
                 .zipWith(statusRoomService.findById(room.getStatusRoomId()), (typeRoom, statusRoom) -> {
                     room.setTypeRoom(typeRoom);
                     room.setStatusRoom(statusRoom);
                     return room;
                 })
-                .flatMap(saveOrUpdate)
-                .onErrorResume(e -> Mono.error(new ResourceNotFoundException("Tipo ou Status do quarto não encontrado para os IDs fornecidos")));
+                .onErrorMap(e -> new ResourceNotFoundException("Tipo ou Status do quarto não encontrado para os IDs fornecidos"))
+                .flatMap(withDependencies -> saveOrUpdate.apply(withDependencies)
+                        .map(saved -> {
+                            saved.setTypeRoom(withDependencies.getTypeRoom());
+                            saved.setStatusRoom(withDependencies.getStatusRoom());
+                            return saved;
+                        })));
     }
 
     
@@ -0,0 +1,208 @@
+package br.com.pedroramon.backend.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+/**
+ * Métricas de latência e vazão das operações dos serviços.
+ *
+ * Cada operação é medida do momento em que o {@link Mono} ou {@link Flux}
+ * retornado é assinado até o seu término (sucesso, erro ou cancelamento), e
+ * não da chamada do método que monta o fluxo. São publicados:
+ * <ul>
+ *   <li>{@code hotel.service.operation}: timer com percentis, marcado por
+ *       entidade, operação, resultado ({@code success}, {@code error},
+ *       {@code cancelled}) e tipo da exceção; sua contagem serve como contador
+ *       de sucessos e erros;</li>
+ *   <li>{@code hotel.service.operation.elements}: quantidade de elementos
+ *       emitidos por operações que retornam {@link Flux};</li>
+ *   <li>{@code hotel.service.coalesced}: consultas ao banco evitadas por
+ *       terem sido atendidas por uma consulta idêntica já em andamento.</li>
+ * </ul>
+ * Quando uma operação sobrescrita chama a implementação da superclasse, apenas
+ * a chamada mais externa é medida. Os medidores são registrados uma única vez
+ * por combinação de marcações e reutilizados nas medições seguintes.
+ */
+@Component
+public class ServiceMetrics {
+
+    static final String OPERATION_TIMER = "hotel.service.operation";
+    static final String ELEMENTS_SUMMARY = "hotel.service.operation.elements";
+    static final String COALESCED_COUNTER = "hotel.service.coalesced";
+    static final String BATCH_SIZE_SUMMARY = "hotel.service.batch.size";
+    static final String BATCH_FILL_SUMMARY = "hotel.service.batch.fill";
+
+    /**
+     * Instância que não registra métricas, usada quando não há {@link MeterRegistry}.
+     */
+    public static final ServiceMetrics NOOP = new ServiceMetrics(null);
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> elementSummaries = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> batchFills = new ConcurrentHashMap<>();
+
+    public ServiceMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Mede uma operação que retorna {@link Mono}.
+     *
+     * @param entity O nome da entidade do serviço.
+     * @param operation O nome da operação.
+     * @param source O fluxo da operação.
+     * @return O mesmo fluxo, medido a cada assinatura.
+     */
+    public <T> Mono<T> timed(String entity, String operation, Mono<T> source) {
+        if (registry == null) {
+            return source;
+        }
+        String key = contextKey(entity, operation);
+        return Mono.deferContextual(context -> {
+            if (context.hasKey(key)) {
+                return source;
+            }
+            Measurement measurement = new Measurement();
+            return source
+                    .doOnError(measurement::failed)
+                    .doFinally(signal -> record(entity, operation, measurement, signal, false))
+                    .contextWrite(Context.of(key, Boolean.TRUE));
+        });
+    }
+
+    /**
+     * Mede uma operação que retorna {@link Flux}, registrando também a
+     * quantidade de elementos emitidos.
+     *
+     * @param entity O nome da entidade do serviço.
+     * @param operation O nome da operação.
+     * @param source O fluxo da operação.
+     * @return O mesmo fluxo, medido a cada assinatura.
+     */
+    public <T> Flux<T> timed(String entity, String operation, Flux<T> source) {
+        if (registry == null) {
+            return source;
+        }
+        String key = contextKey(entity, operation);
+        return Flux.deferContextual(context -> {
+            if (context.hasKey(key)) {
+                return source;
+            }
+            Measurement measurement = new Measurement();
+            return source
+                    .doOnNext(element -> measurement.elements++)
+                    .doOnError(measurement::failed)
+                    .doFinally(signal -> record(entity, operation, measurement, signal, true))
+                    .contextWrite(Context.of(key, Boolean.TRUE));
+        });
+    }
+
+    /**
+     * Registra uma consulta ao banco evitada por ter sido atendida por uma
+     * consulta idêntica já em andamento.
+     *
+     * @param entity O nome da entidade do serviço.
+     * @param operation O nome da operação.
+     */
+    public void coalesced(String entity, String operation) {
+        if (registry == null) {
+            return;
+        }
+        coalescedCounters.computeIfAbsent(entity + "." + operation, key -> Counter.builder(COALESCED_COUNTER)
+                        .description("Consultas ao banco evitadas pelo agrupamento de consultas concorrentes")
+                        .tag("entity", entity)
+                        .tag("operation", operation)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * Registra uma consulta em lote, com a quantidade de IDs consultados e a
+     * fração do tamanho máximo do lote que eles ocuparam.
+     *
+     * @param entity O nome da entidade do serviço.
+     * @param size A quantidade de IDs do lote.
+     * @param maxSize O tamanho máximo do lote.
+     */
+    public void batchLoaded(String entity, int size, int maxSize) {
+        if (registry == null) {
+            return;
+        }
+        batchSizes.computeIfAbsent(entity, key -> DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                        .description("Quantidade de IDs por consulta em lote")
+                        .tag("entity", entity)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(registry))
+                .record(size);
+        batchFills.computeIfAbsent(entity, key -> DistributionSummary.builder(BATCH_FILL_SUMMARY)
+                        .description("Fração do tamanho máximo ocupada por cada consulta em lote")
+                        .tag("entity", entity)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(registry))
+                .record((double) size / maxSize);
+    }
+
+    private void record(String entity, String operation, Measurement measurement, SignalType signal,
+                        boolean countElements) {
+        String outcome = switch (signal) {
+            case ON_COMPLETE -> "success";
+            case CANCEL -> "cancelled";
+            default -> "error";
+        };
+        String exception = measurement.error == null ? "none" : measurement.error.getClass().getSimpleName();
+        operationTimers.computeIfAbsent(entity + "." + operation + "." + outcome + "." + exception,
+                        key -> Timer.builder(OPERATION_TIMER)
+                                .description("Latência das operações dos serviços")
+                                .tag("entity", entity)
+                                .tag("operation", operation)
+                                .tag("outcome", outcome)
+                                .tag("exception", exception)
+                                .publishPercentiles(0.5, 0.95, 0.99)
+                                .publishPercentileHistogram()
+                                .register(registry))
+                .record(System.nanoTime() - measurement.startNanos, TimeUnit.NANOSECONDS);
+        if (countElements) {
+            elementSummaries.computeIfAbsent(entity + "." + operation,
+                            key -> DistributionSummary.builder(ELEMENTS_SUMMARY)
+                                    .description("Quantidade de elementos emitidos pelas operações dos serviços")
+                                    .tag("entity", entity)
+                                    .tag("operation", operation)
+                                    .publishPercentiles(0.5, 0.95, 0.99)
+                                    .register(registry))
+                    .record(measurement.elements);
+        }
+    }
+
+    private static String contextKey(String entity, String operation) {
+        return OPERATION_TIMER + "." + entity + "." + operation;
+    }
+
+    /**
+     * Estado de uma assinatura medida. Os sinais reativos são serializados,
+     * então os campos não precisam de sincronização.
+     */
+    private static final class Measurement {
+        private final long startNanos = System.nanoTime();
+        private long elements;
+        private Throwable error;
+
+        private void failed(Throwable error) {
+            this.error = error;
+        }
+    }
+}
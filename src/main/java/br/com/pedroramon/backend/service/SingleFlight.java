@@ -0,0 +1,94 @@
+package br.com.pedroramon.backend.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Agrupa consultas concorrentes pela mesma chave em uma única execução.
+ *
+ * Enquanto a consulta de uma chave está em andamento, novas assinaturas para
+ * a mesma chave recebem o resultado dessa consulta, em vez de iniciar outra.
+ * Erros são entregues a todas as assinaturas. A consulta só é cancelada quando
+ * todas as assinaturas cancelam, e o resultado não é guardado: assim que a
+ * consulta termina, a próxima assinatura executa uma nova consulta.
+ *
+ * @param <K> O tipo da chave da consulta.
+ * @param <V> O tipo do resultado da consulta.
+ */
+final class SingleFlight<K, V> {
+
+    private final Map<K, Call> inFlight = new ConcurrentHashMap<>();
+    private final Runnable onCoalesced;
+
+    /**
+     * @param onCoalesced Chamado a cada assinatura atendida por uma consulta já
+     *                    em andamento, ou seja, a cada consulta evitada.
+     */
+    SingleFlight(Runnable onCoalesced) {
+        this.onCoalesced = onCoalesced;
+    }
+
+    /**
+     * Executa a consulta da chave, ou se junta à consulta da mesma chave que já
+     * estiver em andamento. A verificação é feita a cada assinatura.
+     *
+     * @param key A chave da consulta.
+     * @param lookup Cria a consulta, chamado apenas quando não há outra em andamento.
+     * @return Um {@link Mono} com o resultado da consulta.
+     */
+    Mono<V> execute(K key, Supplier<Mono<V>> lookup) {
+        return Mono.defer(() -> {
+            Call existing = inFlight.get(key);
+            if (existing != null) {
+                onCoalesced.run();
+                return existing.shared;
+            }
+            Call call = new Call(key, lookup.get());
+            existing = inFlight.putIfAbsent(key, call);
+            if (existing != null) {
+                onCoalesced.run();
+                return existing.shared;
+            }
+            return call.shared;
+        });
+    }
+
+    /**
+     * Descarta a consulta em andamento da chave, para que as próximas
+     * assinaturas executem uma nova consulta. Usado após escritas, para que uma
+     * leitura iniciada depois delas não receba um resultado anterior.
+     *
+     * @param key A chave da consulta.
+     */
+    void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Quantidade de chaves com consultas em andamento.
+     */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Uma consulta compartilhada. Ela se conecta à origem na primeira assinatura
+     * e cancela a origem quando a última assinatura cancela; ao terminar, por
+     * qualquer motivo, sai do mapa de consultas em andamento.
+     */
+    private final class Call {
+        private final Mono<V> shared;
+
+        private Call(K key, Mono<V> source) {
+            this.shared = source
+                    .doFinally(signal -> inFlight.remove(key, this))
+                    .flux()
+                    .publish()
+                    .refCount()
+                    .singleOrEmpty();
+        }
+    }
+}
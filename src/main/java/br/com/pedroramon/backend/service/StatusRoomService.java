@@ -2,32 +2,35 @@ package br.com.pedroramon.backend.service;
 
 import org.springframework.stereotype.Service;
 
+import br.com.pedroramon.backend.config.ReferenceCacheProperties;
 import br.com.pedroramon.backend.model.StatusRoom;
 import br.com.pedroramon.backend.repository.IStatusRoomRepository;
 
 /**
  * Serviço responsável pela lógica de negócio relacionada ao status dos quartos.
- * Esta classe estende a {@link GenericService} e utiliza um repositório específico
- * para gerenciar as operações de CRUD para a entidade {@link StatusRoom}.
+ * Esta classe estende a {@link CachedGenericService} e utiliza um repositório específico
+ * para gerenciar as operações de CRUD para a entidade {@link StatusRoom}, mantendo
+ * os status de quarto em cache por serem dados de referência raramente alterados.
  *  
  * A classe {@code StatusRoomService} é anotada com {@link Service}, permitindo que o 
  * Spring a reconheça como um componente de serviço e a injete em outros componentes 
  * conforme necessário.
  *  
- * @see GenericService
+ * @see CachedGenericService
  * @see StatusRoom
  * @see IStatusRoomRepository
  */
 @Service
-public class StatusRoomService extends GenericService<StatusRoom> {
+public class StatusRoomService extends CachedGenericService<StatusRoom> {
 
     /**
      * Construtor da classe {@code StatusRoomService}.
      * 
      * @param repository O repositório a ser utilizado para gerenciar as operações
      *                   de CRUD relacionadas a {@link StatusRoom}.
+     * @param cacheProperties As configurações do cache de dados de referência.
      */
-    public StatusRoomService(IStatusRoomRepository repository) {
-        super(repository);
+    public StatusRoomService(IStatusRoomRepository repository, ReferenceCacheProperties cacheProperties) {
+        super(repository, cacheProperties);
     }
 }
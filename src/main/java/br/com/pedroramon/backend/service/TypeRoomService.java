@@ -2,27 +2,29 @@ package br.com.pedroramon.backend.service;
 
 import org.springframework.stereotype.Service;
 
+import br.com.pedroramon.backend.config.ReferenceCacheProperties;
 import br.com.pedroramon.backend.model.TypeRoom;
 import br.com.pedroramon.backend.repository.ITypeRoomRepository;
 
 /**
  * Serviço responsável pela lógica de negócio relacionada ao tipo dos quartos.
- * Esta classe estende a {@link GenericService} e utiliza um repositório específico
- * para gerenciar as operações de CRUD para a entidade {@link TypeRoom}.
+ * Esta classe estende a {@link CachedGenericService} e utiliza um repositório específico
+ * para gerenciar as operações de CRUD para a entidade {@link TypeRoom}, mantendo
+ * os tipos de quarto em cache por serem dados de referência raramente alterados.
  *  
  * A classe {@code TypeRoomService} é anotada com {@link Service}, permitindo que o 
  * Spring a reconheça como um componente de serviço e a injete em outros componentes 
  * conforme necessário.
  *  
- * @see GenericService
+ * @see CachedGenericService
  * @see TypeRoom
  * @see ITypeRoomRepository
  */
 @Service
-public class TypeRoomService extends GenericService<TypeRoom> {
+public class TypeRoomService extends CachedGenericService<TypeRoom> {
 
-    public TypeRoomService(ITypeRoomRepository repository) {
-        super(repository);
+    public TypeRoomService(ITypeRoomRepository repository, ReferenceCacheProperties cacheProperties) {
+        super(repository, cacheProperties);
     }
     
 }
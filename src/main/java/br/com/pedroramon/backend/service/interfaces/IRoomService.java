@@ -1,8 +1,151 @@
 package br.com.pedroramon.backend.service.interfaces;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.repository.ResourceVersion;
+import br.com.pedroramon.backend.repository.RoomPatch;
+import br.com.pedroramon.backend.repository.RoomProjection;
+import br.com.pedroramon.backend.repository.RoomSearchCriteria;
+import br.com.pedroramon.backend.repository.RoomSort;
+import br.com.pedroramon.backend.service.BatchOutcome;
+import br.com.pedroramon.backend.service.RoomEvent;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface IRoomService extends IService<Room> {
     Mono<Room> findByRoomNumber(Integer roomNumber); 
+
+    /**
+     * Recupera uma página de quartos ordenada por ID, a partir do cursor informado.
+     *
+     * @param after ID do último quarto da página anterior, ou {@code null} para a primeira página.
+     * @param limit Quantidade máxima de quartos da página.
+     * @return Um {@link Flux} com os quartos da página.
+     */
+    Flux<Room> findPage(Long after, int limit);
+
+    /**
+     * Recupera os quartos ordenados por ID lendo apenas os campos e relações da projeção.
+     *
+     * @param projection Os campos e relações a serem lidos.
+     * @param after ID do último quarto da página anterior, ou {@code null} para a primeira página.
+     * @param limit Quantidade máxima de quartos da página, ou {@code null} para todos os quartos.
+     * @return Um {@link Flux} com os quartos, apenas com os campos da projeção preenchidos.
+     */
+    Flux<Room> findProjected(RoomProjection projection, Long after, Integer limit);
+
+    /**
+     * Recupera um quarto pelo ID lendo apenas os campos e relações da projeção.
+     *
+     * @param id ID do quarto.
+     * @param projection Os campos e relações a serem lidos.
+     * @return Um {@link Mono} com o quarto, ou erro caso não exista.
+     */
+    Mono<Room> findProjectedById(Long id, RoomProjection projection);
+
+    /**
+     * Recupera todos os quartos respeitando a demanda do consumidor, buscando
+     * no máximo {@code fetchSize} linhas do banco por vez.
+     *
+     * @param fetchSize Quantidade de linhas buscadas por vez.
+     * @return Um {@link Flux} com todos os quartos ordenados por ID.
+     */
+    Flux<Room> streamAll(int fetchSize);
+
+    /**
+     * Emite o estado atual de todos os quartos e, em seguida, cada alteração publicada.
+     *
+     * @param fetchSize Quantidade de linhas buscadas por vez na leitura do estado atual.
+     * @return Um {@link Flux} infinito com o estado atual seguido dos eventos ao vivo.
+     */
+    Flux<RoomEvent> watch(int fetchSize);
+
+    /**
+     * Busca quartos pelos filtros informados, em páginas ordenadas e paginadas por cursor.
+     *
+     * @param criteria Os filtros da busca.
+     * @param sort A ordenação dos resultados.
+     * @param cursor O cursor devolvido com a página anterior, ou {@code null} para a primeira página.
+     * @param limit Quantidade máxima de quartos da página.
+     * @return Um {@link Flux} com os quartos da página.
+     */
+    Flux<Room> search(RoomSearchCriteria criteria, RoomSort sort, String cursor, int limit);
+
+    /**
+     * Recupera os quartos criados ou alterados depois do instante informado,
+     * incluindo os quartos cujo tipo ou status foi alterado.
+     *
+     * @param since O instante da última sincronização.
+     * @return Um {@link Flux} com os quartos alterados.
+     */
+    Flux<Room> findChangedSince(LocalDateTime since);
+
+    /**
+     * Recupera os IDs dos quartos excluídos depois do instante informado.
+     *
+     * @param since O instante da última sincronização.
+     * @return Um {@link Flux} com os IDs dos quartos excluídos.
+     */
+    Flux<Long> findDeletedSince(LocalDateTime since);
+
+    /**
+     * Resume o estado da coleção de quartos sem carregá-los.
+     *
+     * @return Um {@link Mono} com o resumo da coleção.
+     */
+    Mono<ResourceVersion> findCollectionVersion();
+
+    /**
+     * Resume o estado de um quarto, com tipo e status, sem carregá-lo.
+     *
+     * @param id O ID do quarto.
+     * @return Um {@link Mono} com o resumo do quarto, ou vazio se ele não existir.
+     */
+    Mono<ResourceVersion> findVersionById(Long id);
+
+    /**
+     * Cria os quartos informados em lote, em uma única transação.
+     *
+     * @param rooms Os quartos a serem criados.
+     * @return Um {@link Mono} com o resultado de cada quarto, na mesma ordem da lista recebida.
+     */
+    Mono<List<BatchOutcome<Room>>> saveAll(List<Room> rooms);
+
+    /**
+     * Atualiza os quartos informados em lote, em uma única transação.
+     *
+     * @param rooms Os quartos a serem atualizados.
+     * @return Um {@link Mono} com o resultado de cada quarto, na mesma ordem da lista recebida.
+     */
+    Mono<List<BatchOutcome<Room>>> updateAll(List<Room> rooms);
+
+    /**
+     * Altera apenas as colunas informadas de um quarto, em uma única instrução.
+     *
+     * @param id O ID do quarto.
+     * @param patch As colunas a serem alteradas.
+     * @return Um {@link Mono} com o quarto alterado.
+     */
+    Mono<Room> patch(Long id, RoomPatch patch);
+
+    /**
+     * Altera apenas o status de um quarto, em uma única instrução.
+     *
+     * @param id O ID do quarto.
+     * @param statusRoomId O ID do novo status.
+     * @param version A versão esperada do quarto, ou {@code null} para não verificar.
+     * @return Um {@link Mono} com o quarto alterado.
+     */
+    Mono<Room> updateStatus(Long id, Long statusRoomId, Long version);
+
+    /**
+     * Altera apenas o status dos quartos informados, em uma única transação.
+     *
+     * @param ids Os IDs dos quartos.
+     * @param statusRoomId O ID do novo status.
+     * @return Um {@link Mono} com o resultado de cada quarto, na mesma ordem da lista recebida.
+     */
+    Mono<List<BatchOutcome<Room>>> updateStatusAll(List<Long> ids, Long statusRoomId);
 }
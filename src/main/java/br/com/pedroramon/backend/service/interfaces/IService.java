@@ -30,6 +30,16 @@ public interface IService<T> {
      */
     Mono<T> findById(Long id);
 
+    /**
+     * Recupera as entidades do tipo {@code T} correspondentes aos IDs informados.
+     *
+     * IDs inexistentes são ignorados, sem erro.
+     *
+     * @param ids Os IDs das entidades a serem recuperadas.
+     * @return Um {@link Flux} contendo as entidades encontradas, em qualquer ordem.
+     */
+    Flux<T> findAllById(Iterable<Long> ids);
+
     /**
      * Salva uma nova entidade do tipo {@code T}.
      *
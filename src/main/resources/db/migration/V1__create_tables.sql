@@ -0,0 +1,26 @@
+CREATE TABLE IF NOT EXISTS type_room (
+    type_rom_id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS status_room (
+    status_rom_id BIGSERIAL PRIMARY KEY,
+    description VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS rooms (
+    room_id BIGSERIAL PRIMARY KEY,
+    room_number INTEGER NOT NULL,
+    daily_rate NUMERIC(10, 2) NOT NULL,
+    type_room_id BIGINT NOT NULL REFERENCES type_room (type_rom_id),
+    status_room_id BIGINT NOT NULL REFERENCES status_room (status_rom_id),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+);
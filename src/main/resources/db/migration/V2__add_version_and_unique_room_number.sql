@@ -0,0 +1,8 @@
+-- Bancos criados antes do controle de concorrência otimista recebem a coluna de versão.
+ALTER TABLE type_room ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE status_room ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE rooms ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- A unicidade do número do quarto é garantida pelo banco, e não por uma consulta antes da escrita.
+-- O índice também atende às buscas por número (findByRoomNumber).
+CREATE UNIQUE INDEX IF NOT EXISTS ux_rooms_room_number ON rooms (room_number);
@@ -0,0 +1,5 @@
+-- O PostgreSQL não cria índices para chaves estrangeiras. Estes atendem às junções
+-- de IRoomRepositoryCustomImpl e evitam varreduras completas de rooms ao excluir
+-- ou alterar um tipo ou status.
+CREATE INDEX IF NOT EXISTS ix_rooms_type_room_id ON rooms (type_room_id);
+CREATE INDEX IF NOT EXISTS ix_rooms_status_room_id ON rooms (status_room_id);
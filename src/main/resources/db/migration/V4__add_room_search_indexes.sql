@@ -0,0 +1,3 @@
+-- Atende ao filtro e à ordenação por diária da busca de quartos (GET /api/rooms/search),
+-- com room_id como desempate do cursor.
+CREATE INDEX IF NOT EXISTS ix_rooms_daily_rate_room_id ON rooms (daily_rate, room_id);
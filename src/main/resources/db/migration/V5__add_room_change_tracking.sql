@@ -0,0 +1,10 @@
+-- Sincronização incremental de quartos (GET /api/rooms/changes): os quartos alterados
+-- desde o cursor são lidos por updated_at, e as exclusões deixam uma lápide.
+CREATE INDEX IF NOT EXISTS ix_rooms_updated_at_room_id ON rooms (updated_at, room_id);
+
+CREATE TABLE IF NOT EXISTS room_tombstones (
+    room_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_room_tombstones_deleted_at ON room_tombstones (deleted_at);
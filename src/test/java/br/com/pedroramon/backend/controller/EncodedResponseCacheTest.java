@@ -0,0 +1,117 @@
+package br.com.pedroramon.backend.controller;
+
+import br.com.pedroramon.backend.dto.StatusRoomDTO;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.service.CachedGenericService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes para o cache de respostas codificadas {@link EncodedResponseCache}.
+ *
+ * Verifica que as respostas são codificadas uma única vez, que a variante gzip
+ * tem ETag própria e segue as qualidades do {@code Accept-Encoding}, e que uma
+ * escrita notificada pelo serviço ou o fim do tempo de vida refazem o cache.
+ */
+class EncodedResponseCacheTest {
+
+    private CachedGenericService<StatusRoom> service;
+    private EncodedResponseCache<StatusRoom> cache;
+    private Runnable changeListener;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        service = Mockito.mock(CachedGenericService.class);
+        cache = newCache(Duration.ofMinutes(10));
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(service).addChangeListener(listener.capture());
+        changeListener = listener.getValue();
+    }
+
+    @Test
+    void all_ShouldEncodeOnce_UntilServiceChanges() {
+        when(service.findAll()).thenReturn(Flux.just(new StatusRoom(1L, "Disponível")));
+        var request = MockServerHttpRequest.get("/api/status-rooms").build();
+
+        assertEquals("[{\"id\":1,\"description\":\"Disponível\",\"version\":null}]", body(cache.all(request).block()));
+        cache.all(request).block();
+        verify(service, times(1)).findAll();
+
+        when(service.findAll()).thenReturn(Flux.just(new StatusRoom(1L, "Ocupado")));
+        changeListener.run();
+
+        assertEquals("[{\"id\":1,\"description\":\"Ocupado\",\"version\":null}]", body(cache.all(request).block()));
+        verify(service, times(2)).findAll();
+    }
+
+    @Test
+    void byId_ShouldServeGzipVariant_WithItsOwnETag() {
+        when(service.findAll()).thenReturn(Flux.just(new StatusRoom(1L, "Disponível")));
+        var plain = MockServerHttpRequest.get("/api/status-rooms/1").build();
+        var gzip = MockServerHttpRequest.get("/api/status-rooms/1").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br").build();
+
+        ResponseEntity<?> plainResponse = cache.byId(1L, plain).block();
+        ResponseEntity<?> gzipResponse = cache.byId(1L, gzip).block();
+
+        assertEquals("gzip", gzipResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNotEquals(plainResponse.getHeaders().getETag(), gzipResponse.getHeaders().getETag());
+        assertNull(cache.byId(2L, plain).block());
+    }
+
+    @Test
+    void all_ShouldReload_AfterTimeToLive() {
+        EncodedResponseCache<StatusRoom> expiring = newCache(Duration.ZERO);
+        when(service.findAll()).thenReturn(Flux.just(new StatusRoom(1L, "Disponível")));
+        var request = MockServerHttpRequest.get("/api/status-rooms").build();
+
+        expiring.all(request).block();
+        when(service.findAll()).thenReturn(Flux.just(new StatusRoom(1L, "Ocupado")));
+
+        assertEquals("[{\"id\":1,\"description\":\"Ocupado\",\"version\":null}]", body(expiring.all(request).block()));
+    }
+
+    @Test
+    void byId_ShouldHonorAcceptEncodingQualities() {
+        when(service.findAll()).thenReturn(Flux.just(new StatusRoom(1L, "Disponível")));
+
+        assertNull(contentEncoding("gzip;q=0"));
+        assertNull(contentEncoding("gzip; q=0.0, br"));
+        assertNull(contentEncoding("*;q=0.5, gzip;q=0"));
+        assertNull(contentEncoding("br, *;q=0"));
+        assertEquals("gzip", contentEncoding("gzip;q=0.5"));
+        assertEquals("gzip", contentEncoding("br, *"));
+    }
+
+    private EncodedResponseCache<StatusRoom> newCache(Duration timeToLive) {
+        return new EncodedResponseCache<>(service,
+                status -> new StatusRoomDTO(status.getId(), status.getDescription(), status.getVersion()),
+                new ObjectMapper(), timeToLive);
+    }
+
+    private String contentEncoding(String acceptEncoding) {
+        var request = MockServerHttpRequest.get("/api/status-rooms/1")
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding).build();
+        return cache.byId(1L, request).block().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private static String body(ResponseEntity<?> response) {
+        return ((DataBuffer) response.getBody()).toString(StandardCharsets.UTF_8);
+    }
+}
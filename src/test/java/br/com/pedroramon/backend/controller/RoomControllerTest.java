@@ -0,0 +1,196 @@
+package br.com.pedroramon.backend.controller;
+
+import br.com.pedroramon.backend.config.BinaryCodecConfig;
+import br.com.pedroramon.backend.config.RoomBatchProperties;
+import br.com.pedroramon.backend.config.RoomChangesProperties;
+import br.com.pedroramon.backend.config.RoomPagingProperties;
+import br.com.pedroramon.backend.dto.RoomDTO;
+import br.com.pedroramon.backend.mapper.IEntityDtoMapper;
+import br.com.pedroramon.backend.mapper.MapperFactory;
+import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.model.TypeRoom;
+import br.com.pedroramon.backend.repository.ResourceVersion;
+import br.com.pedroramon.backend.service.RoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes para o controlador de quartos {@link RoomController}.
+ */
+@WebFluxTest(RoomController.class)
+class RoomControllerTest {
+
+    @TestConfiguration
+    @EnableConfigurationProperties({RoomPagingProperties.class, RoomBatchProperties.class, RoomChangesProperties.class})
+    static class Properties {
+    }
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private RoomService roomService;
+
+    @MockBean
+    private MapperFactory mapperFactory;
+
+    @MockBean
+    private IEntityDtoMapper<Room, RoomDTO> roomMapper;
+
+    private final Room room = new Room(1L, 101, new BigDecimal("150.00"), 1L, 1L);
+    private final RoomDTO dto = new RoomDTO(1L, 101, new BigDecimal("150.00"), 1L, 1L, null, null, 2L);
+    private final ResourceVersion version = new ResourceVersion(1, 4, LocalDateTime.of(2024, 5, 1, 10, 30));
+
+    @BeforeEach
+    void setup() {
+        TypeRoom typeRoom = new TypeRoom(1L, "Single");
+        typeRoom.setVersion(1L);
+        typeRoom.setUpdatedAt(LocalDateTime.of(2024, 4, 1, 9, 0));
+        StatusRoom statusRoom = new StatusRoom(1L, "Disponível");
+        statusRoom.setVersion(1L);
+        statusRoom.setUpdatedAt(LocalDateTime.of(2024, 4, 1, 9, 0));
+        room.setVersion(2L);
+        room.setUpdatedAt(LocalDateTime.of(2024, 5, 1, 10, 30));
+        room.setTypeRoom(typeRoom);
+        room.setStatusRoom(statusRoom);
+        Mockito.when(mapperFactory.getRoomMapper()).thenReturn(roomMapper);
+        Mockito.when(roomMapper.toDto(room)).thenReturn(dto);
+    }
+
+    /**
+     * Testa o endpoint GET da listagem em JSON: a resposta traz
+     * {@code Vary: Accept}, pois o mesmo endpoint negocia CBOR e Smile.
+     */
+    @Test
+    void getAllRooms_ShouldVaryByAccept_WhenJson() {
+        Mockito.when(roomService.findAll()).thenReturn(Flux.just(room));
+        Mockito.when(roomService.findCollectionVersion()).thenReturn(Mono.just(version));
+
+        webTestClient.get().uri("/api/rooms")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBodyList(RoomDTO.class)
+                .hasSize(1).contains(dto);
+    }
+
+    /**
+     * Testa o endpoint GET por ID com {@code Accept} em Smile: corpo em Smile e
+     * ETag própria da codificação.
+     */
+    @Test
+    void findRoomById_ShouldReturnSmile_WhenAccepted() {
+        Mockito.when(roomService.findById(1L)).thenReturn(Mono.just(room));
+
+        webTestClient.get().uri("/api/rooms/1")
+                .accept(BinaryCodecConfig.APPLICATION_SMILE)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(BinaryCodecConfig.APPLICATION_SMILE)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, ETags.variant(ETags.of(version), "smile"))
+                .expectBody(byte[].class)
+                .value(body -> assertEquals(dto, readSmile(body)));
+    }
+
+    /**
+     * Testa o endpoint GET por ID sem {@code If-None-Match}: a ETag é calculada
+     * a partir do quarto carregado, sem consultar o resumo de versões.
+     */
+    @Test
+    void findRoomById_ShouldDeriveETagFromLoadedRoom() {
+        Mockito.when(roomService.findById(1L)).thenReturn(Mono.just(room));
+
+        webTestClient.get().uri("/api/rooms/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, ETags.of(version))
+                .expectBody(RoomDTO.class).isEqualTo(dto);
+        Mockito.verify(roomService, Mockito.never()).findVersionById(1L);
+    }
+
+    /**
+     * Testa o endpoint GET por ID condicional: a ETag da primeira resposta é a
+     * mesma calculada com {@code If-None-Match}, que então recebe um 304 sem
+     * carregar o quarto.
+     */
+    @Test
+    void findRoomById_ShouldReturnNotModified_WhenETagMatches() {
+        Mockito.when(roomService.findVersionById(1L)).thenReturn(Mono.just(version));
+        Mockito.when(roomService.findById(1L)).thenReturn(Mono.just(room));
+
+        String eTag = webTestClient.get().uri("/api/rooms/1")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(RoomDTO.class)
+                .getResponseHeaders().getETag();
+        Mockito.clearInvocations(roomService);
+
+        webTestClient.get().uri("/api/rooms/1")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+        Mockito.verify(roomService, Mockito.never()).findById(1L);
+    }
+
+    /**
+     * Testa o endpoint GET da listagem em NDJSON: a ETag é diferente da
+     * listagem em JSON da mesma versão.
+     */
+    @Test
+    void getAllRooms_ShouldUseOwnETag_WhenNdjson() {
+        Mockito.when(roomService.findAll()).thenReturn(Flux.just(room));
+        Mockito.when(roomService.streamAll(Mockito.anyInt())).thenReturn(Flux.just(room));
+        Mockito.when(roomService.findCollectionVersion()).thenReturn(Mono.just(version));
+
+        String json = webTestClient.get().uri("/api/rooms")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .returnResult(RoomDTO.class)
+                .getResponseHeaders().getETag();
+        String ndjson = webTestClient.get().uri("/api/rooms")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(RoomDTO.class)
+                .getResponseHeaders().getETag();
+
+        assertNotEquals(json, ndjson);
+        assertTrue(ndjson.endsWith("-ndjson\""));
+    }
+
+    private static RoomDTO readSmile(byte[] body) {
+        try {
+            return new ObjectMapper(new SmileFactory()).readValue(body, RoomDTO.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.pedroramon.backend.controller;
 
+import br.com.pedroramon.backend.config.BinaryCodecConfig;
 import br.com.pedroramon.backend.dto.TypeRoomDTO;
 import br.com.pedroramon.backend.exception.ResourceNotFoundException;
 import br.com.pedroramon.backend.mapper.EntityDtoMapper;
@@ -12,10 +13,24 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 
 /**
  * Testes para o controlador de tipos de quartos {@link TypeRoomController}.
@@ -63,6 +78,73 @@ class TypeRoomControllerTest {
                 .contains(response1, response2);
     }
 
+    /**
+     * Testa o endpoint GET com {@code Accept: application/cbor}: corpo em CBOR e
+     * ETag diferente da representação em JSON.
+     */
+    @Test
+    void getAllTypeRooms_ShouldReturnCbor_WhenAccepted() {
+        TypeRoomDTO response = new TypeRoomDTO(1L, "Suíte");
+        TypeRoom room = new TypeRoom(1L, "Suíte");
+
+        Mockito.when(service.findAll()).thenReturn(Flux.just(room));
+        Mockito.when(typeRoomMapper.toDto(room)).thenReturn(response);
+
+        webTestClient.get().uri("/api/type-rooms")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectHeader().value(HttpHeaders.ETAG, eTag -> assertTrue(eTag.endsWith("-cbor\"")))
+                .expectBody(byte[].class)
+                .value(body -> assertArrayEquals(new TypeRoomDTO[] {response}, read(new CBORFactory(), body)));
+    }
+
+    /**
+     * Testa o endpoint GET com {@code Accept} em Smile: corpo em Smile, ETag
+     * própria e {@code Vary: Accept}.
+     */
+    @Test
+    void getAllTypeRooms_ShouldReturnSmile_WhenAccepted() {
+        TypeRoomDTO response = new TypeRoomDTO(1L, "Suíte");
+        TypeRoom room = new TypeRoom(1L, "Suíte");
+
+        Mockito.when(service.findAll()).thenReturn(Flux.just(room));
+        Mockito.when(typeRoomMapper.toDto(room)).thenReturn(response);
+
+        webTestClient.get().uri("/api/type-rooms")
+                .accept(BinaryCodecConfig.APPLICATION_SMILE)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(BinaryCodecConfig.APPLICATION_SMILE)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectHeader().value(HttpHeaders.ETAG, eTag -> assertTrue(eTag.endsWith("-smile\"")))
+                .expectBody(byte[].class)
+                .value(body -> assertArrayEquals(new TypeRoomDTO[] {response}, read(new SmileFactory(), body)));
+    }
+
+    /**
+     * Testa o endpoint GET com uma codificação binária recusada ({@code q=0}):
+     * a resposta é JSON, também com {@code Vary: Accept}.
+     */
+    @Test
+    void getAllTypeRooms_ShouldReturnJson_WhenBinaryRefused() {
+        TypeRoomDTO response = new TypeRoomDTO(1L, "Suíte");
+        TypeRoom room = new TypeRoom(1L, "Suíte");
+
+        Mockito.when(service.findAll()).thenReturn(Flux.just(room));
+        Mockito.when(typeRoomMapper.toDto(room)).thenReturn(response);
+
+        webTestClient.get().uri("/api/type-rooms")
+                .header(HttpHeaders.ACCEPT, "application/cbor;q=0, application/json;q=0.5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .expectBodyList(TypeRoomDTO.class)
+                .hasSize(1).contains(response);
+    }
+
     /**
      * Testa o endpoint POST para criar um novo tipo de quarto.
      */
@@ -98,6 +180,22 @@ class TypeRoomControllerTest {
                 .expectStatus().isBadRequest();
     }
 
+    /**
+     * Testa o endpoint POST com uma versão preenchida, que o Spring Data
+     * trataria como atualização de um registro existente.
+     */
+    @Test
+    void createTypeRoom_ShouldReturnBadRequest_WhenVersionPresent() {
+        TypeRoomDTO request = new TypeRoomDTO(null, "Deluxe", 0L);
+
+        webTestClient.post().uri("/api/type-rooms")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(service);
+    }
+
     /**
      * Testa o endpoint PUT para atualizar um tipo de quarto.
      */
@@ -136,6 +234,47 @@ class TypeRoomControllerTest {
         webTestClient.put().uri("/api/type-rooms")
                 .bodyValue(request)
                 .exchange()
-                .expectStatus().isNotFound();
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.error").isEqualTo("Not Found")
+                .jsonPath("$.message").isEqualTo("Object not found with id: " + roomId)
+                .jsonPath("$.path").isEqualTo("/api/type-rooms");
+    }
+
+    /**
+     * Testa o endpoint GET condicional: com a ETag da listagem anterior em
+     * {@code If-None-Match}, a resposta é 304 e os DTOs não são montados.
+     */
+    @Test
+    void getAllTypeRooms_ShouldReturnNotModified_WhenETagMatches() {
+        TypeRoom room = new TypeRoom(1L, "Suíte");
+        room.setVersion(2L);
+        room.setUpdatedAt(LocalDateTime.of(2024, 5, 1, 10, 30));
+        Mockito.when(service.findAll()).thenReturn(Flux.just(room));
+        Mockito.when(typeRoomMapper.toDto(room)).thenReturn(new TypeRoomDTO(1L, "Suíte", 2L));
+
+        String eTag = webTestClient.get().uri("/api/type-rooms")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TypeRoomDTO.class)
+                .getResponseHeaders().getETag();
+        Mockito.clearInvocations(typeRoomMapper);
+
+        webTestClient.get().uri("/api/type-rooms")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+        Mockito.verify(typeRoomMapper, Mockito.never()).toDto(Mockito.any(TypeRoom.class));
+    }
+
+    private static TypeRoomDTO[] read(JsonFactory factory, byte[] body) {
+        try {
+            return new ObjectMapper(factory).readValue(body, TypeRoomDTO[].class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 }
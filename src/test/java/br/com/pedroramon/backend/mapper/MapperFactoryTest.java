@@ -0,0 +1,51 @@
+package br.com.pedroramon.backend.mapper;
+
+import br.com.pedroramon.backend.dto.RoomDTO;
+import br.com.pedroramon.backend.dto.StatusRoomDTO;
+import br.com.pedroramon.backend.dto.TypeRoomDTO;
+import br.com.pedroramon.backend.model.Room;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.model.TypeRoom;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Testes para os mapeadores gerados fornecidos por {@link MapperFactory}.
+ */
+class MapperFactoryTest {
+
+    private final MapperFactory mapperFactory = new MapperFactory();
+
+    @Test
+    void roomToDto_ShouldMapDependencies_AndAcceptRoomsWithoutThem() {
+        Room room = new Room(1L, 101, new BigDecimal("80.00"), 2L, 3L);
+        room.setVersion(4L);
+        room.setTypeRoom(new TypeRoom(2L, "Luxo"));
+        room.setStatusRoom(new StatusRoom(3L, "Disponível"));
+        Room withoutDependencies = new Room(5L, 102, new BigDecimal("90.00"), 2L, 3L);
+
+        List<RoomDTO> dtos = mapperFactory.getRoomMapper().toDtoList(List.of(room, withoutDependencies));
+
+        assertEquals(new RoomDTO(1L, 101, new BigDecimal("80.00"), 2L, 3L,
+                new TypeRoomDTO(2L, "Luxo"), new StatusRoomDTO(3L, "Disponível"), 4L), dtos.get(0));
+        assertNull(dtos.get(1).typeRoom());
+        assertNull(dtos.get(1).statusRoom());
+    }
+
+    @Test
+    void roomToEntity_ShouldKeepOnlyDependencyIds() {
+        RoomDTO dto = new RoomDTO(1L, 101, new BigDecimal("80.00"), 2L, 3L,
+                new TypeRoomDTO(2L, "Luxo"), null, 4L);
+
+        Room room = mapperFactory.getRoomMapper().toEntity(dto);
+
+        assertEquals(2L, room.getTypeRoomId());
+        assertEquals(4L, room.getVersion());
+        assertNull(room.getTypeRoom());
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.pedroramon.backend.services;
+
+import br.com.pedroramon.backend.config.ReferenceCacheProperties;
+import br.com.pedroramon.backend.model.StatusRoom;
+import br.com.pedroramon.backend.repository.IRepository;
+import br.com.pedroramon.backend.service.CachedGenericService;
+import br.com.pedroramon.backend.service.ServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Classe de teste para o serviço com cache {@link CachedGenericService}.
+ *
+ * Verifica que leituras repetidas são atendidas pelo cache, que as entidades
+ * em cache são instâncias compartilhadas, somente leitura e substituídas por
+ * leituras mais novas, e que as escritas do serviço invalidam o cache.
+ */
+class CachedGenericServiceTest {
+
+    private IRepository<StatusRoom> repository;
+    private CachedGenericService<StatusRoom> service;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(IRepository.class);
+        service = new CachedGenericService<StatusRoom>(repository,
+                new ReferenceCacheProperties(100, Duration.ofMinutes(10), false)) {};
+    }
+
+    /**
+     * Testa se a segunda leitura do mesmo ID não consulta o repositório.
+     */
+    @Test
+    void findById_ShouldHitCache_OnSecondCall() {
+        StatusRoom entity = new StatusRoom(1L, "Disponível");
+        when(repository.findById(1L)).thenReturn(Mono.just(entity));
+
+        StepVerifier.create(service.findById(1L)).expectNext(entity).verifyComplete();
+        StepVerifier.create(service.findById(1L)).expectNext(entity).verifyComplete();
+
+        verify(repository, times(1)).findById(1L);
+        assertEquals(1, service.cacheStatistics().hits());
+        assertEquals(1, service.cacheStatistics().misses());
+    }
+
+    /**
+     * Testa se {@link CachedGenericService#findAll()} reaproveita a listagem em
+     * cache e se {@link CachedGenericService#findById(Long)} usa as mesmas instâncias.
+     */
+    @Test
+    void findAll_ShouldPopulateCache_WithSharedInstances() {
+        StatusRoom entity1 = new StatusRoom(1L, "Disponível");
+        StatusRoom entity2 = new StatusRoom(2L, "Ocupado");
+        when(repository.findAll()).thenReturn(Flux.just(entity1, entity2));
+
+        StepVerifier.create(service.findAll()).expectNext(entity1, entity2).verifyComplete();
+        StepVerifier.create(service.findAll()).expectNext(entity1, entity2).verifyComplete();
+        StepVerifier.create(service.findById(2L)).expectNext(entity2).verifyComplete();
+
+        verify(repository, times(1)).findAll();
+        verify(repository, never()).findById(anyLong());
+        assertSame(entity1, service.canonicalize(new StatusRoom(1L, "Disponível")));
+    }
+
+    /**
+     * Testa se uma entidade lida com atualização mais recente substitui a
+     * instância em cache, e se uma leitura mais antiga é trocada pela do cache.
+     */
+    @Test
+    void canonicalize_ShouldKeepFresherInstance() {
+        StatusRoom cached = new StatusRoom(1L, "Disponível");
+        cached.setUpdatedAt(LocalDateTime.of(2024, 5, 2, 10, 0));
+        when(repository.findById(1L)).thenReturn(Mono.just(cached));
+        StepVerifier.create(service.findById(1L)).expectNext(cached).verifyComplete();
+
+        StatusRoom older = new StatusRoom(1L, "Livre");
+        older.setUpdatedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+        StatusRoom newer = new StatusRoom(1L, "Ocupado");
+        newer.setUpdatedAt(LocalDateTime.of(2024, 5, 3, 10, 0));
+
+        assertSame(cached, service.canonicalize(older));
+        assertSame(newer, service.canonicalize(newer));
+        StepVerifier.create(service.findById(1L)).expectNext(newer).verifyComplete();
+        verify(repository, times(1)).findById(1L);
+    }
+
+    /**
+     * Testa se as instâncias compartilhadas pelo cache não podem ser alteradas.
+     */
+    @Test
+    void findById_ShouldReturnReadOnlyInstance() {
+        when(repository.findById(1L)).thenReturn(Mono.just(new StatusRoom(1L, "Disponível")));
+
+        StatusRoom shared = service.findById(1L).block();
+
+        assertThrows(IllegalStateException.class, () -> shared.setDescription("Ocupado"));
+    }
+
+    /**
+     * Testa se a exclusão de uma entidade invalida o cache.
+     */
+    @Test
+    void delete_ShouldInvalidateCache() {
+        StatusRoom entity = new StatusRoom(1L, "Disponível");
+        when(repository.findById(1L)).thenReturn(Mono.just(entity));
+        when(repository.deleteById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.findById(1L)).expectNext(entity).verifyComplete();
+        StepVerifier.create(service.delete(1L)).verifyComplete();
+        StepVerifier.create(service.findById(1L)).expectNext(entity).verifyComplete();
+
+        verify(repository, times(2)).findById(1L);
+    }
+
+    /**
+     * Testa se uma leitura medida pelo serviço com cache não é medida novamente
+     * pela implementação de {@code GenericService} chamada internamente, e se a
+     * quantidade de elementos emitidos é registrada.
+     */
+    @Test
+    void findAll_ShouldRecordOperationOnce() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.setServiceMetrics(new ServiceMetrics(registry));
+        when(repository.findAll()).thenReturn(Flux.just(new StatusRoom(1L, "Disponível"), new StatusRoom(2L, "Ocupado")));
+
+        StepVerifier.create(service.findAll()).expectNextCount(2).verifyComplete();
+
+        assertEquals(1, registry.get("hotel.service.operation")
+                .tags("entity", "StatusRoom", "operation", "findAll", "outcome", "success")
+                .timer().count());
+        assertEquals(2, registry.get("hotel.service.operation.elements")
+                .tags("entity", "StatusRoom", "operation", "findAll")
+                .summary().totalAmount());
+    }
+}
@@ -1,18 +1,31 @@
 package br.com.pedroramon.backend.services;
 
+import br.com.pedroramon.backend.config.LookupBatchProperties;
+import br.com.pedroramon.backend.exception.ConflictException;
 import br.com.pedroramon.backend.exception.InvalidDataException;
 import br.com.pedroramon.backend.exception.ResourceNotFoundException;
 import br.com.pedroramon.backend.model.StatusRoom;
 import br.com.pedroramon.backend.repository.IRepository;
 import br.com.pedroramon.backend.service.GenericService;
+import br.com.pedroramon.backend.service.ServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -117,22 +130,27 @@ class GenericServiceTest {
 
     /**
      * Testa se o método {@link GenericService#update(StatusRoom)} retorna a entidade
-     * atualizada corretamente quando a entidade existe. O teste verifica se a
-     * entidade retornada é igual à entidade que foi passada como parâmetro.
+     * como foi gravada (com a data de criação e a nova versão) quando a entidade
+     * existe. O teste verifica que a atualização é feita em uma única instrução,
+     * sem leitura prévia.
      */
     @Test
-    void update_ShouldReturnUpdatedEntity_WhenExists() {
-        StatusRoom existingEntity = new StatusRoom();
-        existingEntity.setId(1L);
+    void update_ShouldReturnPersistedEntity_WhenExists() {
         StatusRoom updatedEntity = new StatusRoom();
         updatedEntity.setId(1L);
+        updatedEntity.setVersion(3L);
+        StatusRoom persisted = new StatusRoom(1L, "Disponível");
+        persisted.setVersion(4L);
+        persisted.setCreatedAt(LocalDateTime.of(2024, 1, 10, 8, 0));
 
-        when(repository.findById(1L)).thenReturn(Mono.just(existingEntity));
-        when(repository.save(updatedEntity)).thenReturn(Mono.just(updatedEntity));
+        when(repository.updateVersioned(updatedEntity)).thenReturn(Mono.just(persisted));
 
         StepVerifier.create(service.update(updatedEntity))
-                .expectNext(updatedEntity)
+                .expectNext(persisted)
                 .verifyComplete();
+
+        verify(repository, never()).findById(anyLong());
+        verify(repository, never()).save(any());
     }
 
     /**
@@ -144,7 +162,8 @@ class GenericServiceTest {
     void update_ShouldThrowResourceNotFoundException_WhenNotFound() {
         StatusRoom updatedEntity = new StatusRoom();
         updatedEntity.setId(1L);
-        when(repository.findById(1L)).thenReturn(Mono.empty());
+        when(repository.updateVersioned(updatedEntity)).thenReturn(Mono.empty());
+        when(repository.existsById(1L)).thenReturn(Mono.just(false));
 
         StepVerifier.create(service.update(updatedEntity))
                 .expectErrorMatches(throwable -> throwable instanceof ResourceNotFoundException &&
@@ -152,6 +171,24 @@ class GenericServiceTest {
                 .verify();
     }
 
+    /**
+     * Testa se o método {@link GenericService#update(StatusRoom)} lança uma exceção
+     * {@link ConflictException} quando a entidade existe, mas a versão informada
+     * está desatualizada.
+     */
+    @Test
+    void update_ShouldThrowConflictException_WhenVersionIsStale() {
+        StatusRoom updatedEntity = new StatusRoom();
+        updatedEntity.setId(1L);
+        updatedEntity.setVersion(2L);
+        when(repository.updateVersioned(updatedEntity)).thenReturn(Mono.empty());
+        when(repository.existsById(1L)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(service.update(updatedEntity))
+                .expectError(ConflictException.class)
+                .verify();
+    }
+
     /**
      * Testa se o método {@link GenericService#delete(Long)} completa sem lançar exceções
      * quando a entidade existe. O teste verifica que não há exceções lançadas durante a
@@ -164,4 +201,99 @@ class GenericServiceTest {
         StepVerifier.create(service.delete(1L))
                 .verifyComplete();
     }
+
+    /**
+     * Testa se as métricas das operações são registradas na assinatura do fluxo,
+     * e não na chamada do método, marcadas pela entidade e pelo tipo da exceção.
+     */
+    @Test
+    void findById_ShouldRecordMetrics_OnSubscription() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.setServiceMetrics(new ServiceMetrics(registry));
+        when(repository.findById(1L)).thenReturn(Mono.empty());
+
+        Mono<StatusRoom> result = service.findById(1L);
+        assertNull(registry.find("hotel.service.operation").timer());
+
+        StepVerifier.create(result).expectError(ResourceNotFoundException.class).verify();
+
+        assertEquals(1, registry.get("hotel.service.operation")
+                .tags("entity", "StatusRoom", "operation", "findById",
+                        "outcome", "error", "exception", "ResourceNotFoundException")
+                .timer().count());
+    }
+
+    /**
+     * Testa se buscas concorrentes pelo mesmo ID em {@link GenericService#findById(Long)}
+     * compartilham uma única consulta ao repositório, recebem o mesmo erro, são
+     * contadas como consultas evitadas e não deixam o resultado guardado.
+     */
+    @Test
+    void findById_ShouldShareInFlightQuery_ForConcurrentSubscribers() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.setServiceMetrics(new ServiceMetrics(registry));
+        Sinks.One<StatusRoom> pending = Sinks.one();
+        when(repository.findById(1L)).thenReturn(pending.asMono());
+
+        var first = StepVerifier.create(service.findById(1L)).expectError(ResourceNotFoundException.class).verifyLater();
+        var second = StepVerifier.create(service.findById(1L)).expectError(ResourceNotFoundException.class).verifyLater();
+        pending.tryEmitEmpty();
+        first.verify();
+        second.verify();
+
+        verify(repository, times(1)).findById(1L);
+        assertEquals(1.0, registry.get("hotel.service.coalesced")
+                .tags("entity", "StatusRoom", "operation", "findById")
+                .counter().count());
+
+        StatusRoom entity = new StatusRoom();
+        when(repository.findById(1L)).thenReturn(Mono.just(entity));
+        StepVerifier.create(service.findById(1L)).expectNext(entity).verifyComplete();
+        verify(repository, times(2)).findById(1L);
+    }
+
+    /**
+     * Testa se a consulta compartilhada só é cancelada quando todas as buscas
+     * concorrentes pelo mesmo ID cancelam.
+     */
+    @Test
+    void findById_ShouldCancelSharedQuery_OnlyWhenAllSubscribersCancel() {
+        Sinks.One<StatusRoom> pending = Sinks.one();
+        boolean[] cancelled = {false};
+        when(repository.findById(1L)).thenReturn(pending.asMono().doOnCancel(() -> cancelled[0] = true));
+
+        var first = service.findById(1L).subscribe();
+        var second = service.findById(1L).subscribe();
+
+        first.dispose();
+        assertFalse(cancelled[0]);
+        second.dispose();
+        assertTrue(cancelled[0]);
+    }
+
+    /**
+     * Testa se buscas por IDs diferentes feitas na mesma janela são resolvidas
+     * por uma única consulta em lote, e se apenas o ID inexistente termina com
+     * {@link ResourceNotFoundException}.
+     */
+    @Test
+    void findById_ShouldLoadConcurrentIdsInOneBatch() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        service.setServiceMetrics(new ServiceMetrics(registry));
+        service.setLookupBatchProperties(new LookupBatchProperties(true, Duration.ofMillis(50), 4));
+        StatusRoom available = new StatusRoom(1L, "Disponível");
+        StatusRoom occupied = new StatusRoom(2L, "Ocupado");
+        when(repository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(Flux.just(available, occupied));
+
+        var first = StepVerifier.create(service.findById(1L)).expectNext(available).expectComplete().verifyLater();
+        var second = StepVerifier.create(service.findById(2L)).expectNext(occupied).expectComplete().verifyLater();
+        var missing = StepVerifier.create(service.findById(3L)).expectError(ResourceNotFoundException.class).verifyLater();
+        first.verify(Duration.ofSeconds(5));
+        second.verify(Duration.ofSeconds(5));
+        missing.verify(Duration.ofSeconds(5));
+
+        verify(repository, times(1)).findAllById(any(Iterable.class));
+        verify(repository, never()).findById(anyLong());
+        assertEquals(0.75, registry.get("hotel.service.batch.fill").tag("entity", "StatusRoom").summary().max());
+    }
 }
@@ -1,27 +1,48 @@
 package br.com.pedroramon.backend.services;
 
+import br.com.pedroramon.backend.config.RoomStreamProperties;
+import br.com.pedroramon.backend.exception.InvalidDataException;
+import br.com.pedroramon.backend.exception.ResourceNotFoundException;
 import br.com.pedroramon.backend.model.Room;
 import br.com.pedroramon.backend.model.StatusRoom;
 import br.com.pedroramon.backend.model.TypeRoom;
 import br.com.pedroramon.backend.repository.IRoomRepository;
+import br.com.pedroramon.backend.repository.RoomPatch;
+import br.com.pedroramon.backend.repository.RoomProjection;
+import br.com.pedroramon.backend.repository.RoomSearchCriteria;
+import br.com.pedroramon.backend.repository.RoomSort;
+import br.com.pedroramon.backend.service.BatchOutcome;
+import br.com.pedroramon.backend.service.RoomEvent;
+import br.com.pedroramon.backend.service.RoomEventPublisher;
 import br.com.pedroramon.backend.service.RoomService;
 import br.com.pedroramon.backend.service.StatusRoomService;
 import br.com.pedroramon.backend.service.TypeRoomService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -55,6 +76,8 @@ class RoomServiceTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         room = new Room(1L, 101, new BigDecimal("60.00"), 1L, 1L);
+        when(typeRoomService.canonicalize(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(statusRoomService.canonicalize(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     /**
@@ -65,39 +88,79 @@ class RoomServiceTest {
      */
     @Test
     void testFindById() {
-        when(roomRepository.findById(anyLong())).thenReturn(Mono.just(room));
-        when(typeRoomService.findById(anyLong())).thenReturn(Mono.just(new TypeRoom()));
-        when(statusRoomService.findById(anyLong())).thenReturn(Mono.just(new StatusRoom()));
+        when(roomRepository.findByIdWithDependencies(anyLong())).thenReturn(Mono.just(room));
 
-        Mono<Room> result = roomService.findById(1L);
+        StepVerifier.create(roomService.findById(1L))
+                .expectNext(room)
+                .verifyComplete();
 
-        verify(roomRepository).findById(1L);
-        assert(result.block()).equals(room);
+        verify(roomRepository).findByIdWithDependencies(1L);
+        verify(typeRoomService, never()).findById(anyLong());
+        verify(statusRoomService, never()).findById(anyLong());
+    }
+
+    /**
+     * Testa o método {@link RoomService#findById(Long)} quando o quarto não existe.
+     *
+     * Verifica se uma {@link ResourceNotFoundException} é emitida.
+     *
+     */
+    @Test
+    void testFindByIdNotFound() {
+        when(roomRepository.findByIdWithDependencies(anyLong())).thenReturn(Mono.empty());
+
+        StepVerifier.create(roomService.findById(1L))
+                .expectErrorMatches(throwable -> throwable instanceof ResourceNotFoundException &&
+                        throwable.getMessage().equals("Object not found with id: 1"))
+                .verify();
     }
 
     /**
      * Testa o método {@link RoomService#findAll()}.
      *
-     * Verifica se todas as salas são retornadas corretamente e se os
-     * tipos e status das salas estão sendo carregados como esperado.
+     * Verifica se todas as salas são retornadas corretamente, na ordem do
+     * repositório, e se os tipos e status vêm da consulta unida, sem
+     * consultas adicionais por quarto.
      *
      */
     @Test
     void testFindAllRoom() {
         TypeRoom typeRoom = new TypeRoom(1L, "Single");
         StatusRoom statusRoom = new StatusRoom(1L, "Available");
+        room.setTypeRoom(typeRoom);
+        room.setStatusRoom(statusRoom);
+        Room secondRoom = new Room(2L, 102, new BigDecimal("80.00"), 1L, 1L);
+        secondRoom.setTypeRoom(typeRoom);
+        secondRoom.setStatusRoom(statusRoom);
 
-        when(roomRepository.findAll()).thenReturn(Flux.just(room));
-        when(typeRoomService.findById(room.getTypeRoomId())).thenReturn(Mono.just(typeRoom));
-        when(statusRoomService.findById(room.getStatusRoomId())).thenReturn(Mono.just(statusRoom));
+        when(roomRepository.findAllWithDependencies()).thenReturn(Flux.just(room, secondRoom));
 
         StepVerifier.create(roomService.findAll())
-                .expectNextMatches(r -> r.getTypeRoom().equals(typeRoom) && r.getStatusRoom().equals(statusRoom))
+                .expectNextMatches(r -> r.getId().equals(1L) && r.getTypeRoom().equals(typeRoom) && r.getStatusRoom().equals(statusRoom))
+                .expectNextMatches(r -> r.getId().equals(2L))
                 .verifyComplete();
 
-        verify(roomRepository).findAll();
-        verify(typeRoomService).findById(room.getTypeRoomId());
-        verify(statusRoomService).findById(room.getStatusRoomId());
+        verify(roomRepository).findAllWithDependencies();
+        verify(typeRoomService, never()).findById(anyLong());
+        verify(statusRoomService, never()).findById(anyLong());
+    }
+
+    /**
+     * Testa o método {@link RoomService#findPage(Long, int)}.
+     *
+     * Verifica se a página é obtida pela consulta por cursor do repositório.
+     *
+     */
+    @Test
+    void testFindPage() {
+        Room secondRoom = new Room(2L, 102, new BigDecimal("80.00"), 1L, 1L);
+        when(roomRepository.findPageWithDependencies(1L, 2)).thenReturn(Flux.just(secondRoom));
+
+        StepVerifier.create(roomService.findPage(1L, 2))
+                .expectNext(secondRoom)
+                .verifyComplete();
+
+        verify(roomRepository).findPageWithDependencies(1L, 2);
     }
 
     /**
@@ -108,13 +171,11 @@ class RoomServiceTest {
      */
     @Test
     void testFindByRoomNumber() {
-        when(roomRepository.findByRoomNumber(anyInt())).thenReturn(Mono.just(room));
-        when(typeRoomService.findById(anyLong())).thenReturn(Mono.just(new TypeRoom()));
-        when(statusRoomService.findById(anyLong())).thenReturn(Mono.just(new StatusRoom()));
+        when(roomRepository.findByRoomNumberWithDependencies(anyInt())).thenReturn(Mono.just(room));
 
         Mono<Room> result = roomService.findByRoomNumber(101);
 
-        verify(roomRepository).findByRoomNumber(101);
+        verify(roomRepository).findByRoomNumberWithDependencies(101);
         assert(result.block()).equals(room);
     }
 
@@ -130,7 +191,6 @@ class RoomServiceTest {
         TypeRoom typeRoom = new TypeRoom(1L, "Single");
         StatusRoom statusRoom = new StatusRoom(1L, "Available");
 
-        when(roomRepository.findByRoomNumber(newRoom.getRoomNumber())).thenReturn(Mono.empty());
         when(roomRepository.save(any(Room.class))).thenReturn(Mono.just(newRoom));
         when(typeRoomService.findById(newRoom.getTypeRoomId())).thenReturn(Mono.just(typeRoom));
         when(statusRoomService.findById(newRoom.getStatusRoomId())).thenReturn(Mono.just(statusRoom));
@@ -142,7 +202,7 @@ class RoomServiceTest {
                                 savedRoom.getStatusRoom().equals(statusRoom))
                 .verifyComplete();
 
-        verify(roomRepository).findByRoomNumber(newRoom.getRoomNumber());
+        verify(roomRepository, never()).findByRoomNumber(anyInt());
         verify(roomRepository).save(any(Room.class));
         verify(typeRoomService).findById(newRoom.getTypeRoomId());
         verify(statusRoomService).findById(newRoom.getStatusRoomId());
@@ -151,24 +211,351 @@ class RoomServiceTest {
     /**
      * Testa o método {@link RoomService#save(Room)} ao tentar salvar um quarto com número existente.
      *
-     * Verifica se uma exceção é lançada com a mensagem apropriada ao tentar salvar um quarto
-     * que já existe.
+     * Verifica se a violação do índice único do número do quarto é convertida na
+     * mensagem apropriada, sem consulta prévia pelo número.
      *
      */
     @Test
     void testSaveRoomWithExistingRoomNumber() {
-        Room newRoom = new Room(1L, 101, new BigDecimal("60.00"), 1L, 1L);
-        when(roomRepository.findByRoomNumber(room.getRoomNumber())).thenReturn(Mono.just(room));
-        when(typeRoomService.findById(anyLong())).thenReturn(Mono.empty());
-        when(statusRoomService.findById(anyLong())).thenReturn(Mono.empty());
+        Room newRoom = new Room(null, 101, new BigDecimal("60.00"), 1L, 1L);
+        when(typeRoomService.findById(anyLong())).thenReturn(Mono.just(new TypeRoom(1L, "Single")));
+        when(statusRoomService.findById(anyLong())).thenReturn(Mono.just(new StatusRoom(1L, "Available")));
+        when(roomRepository.save(any(Room.class))).thenReturn(Mono.error(duplicateRoomNumber()));
+
+        StepVerifier.create(roomService.save(newRoom))
+                .expectErrorMatches(throwable -> throwable instanceof IllegalArgumentException &&
+                        throwable.getMessage().equals("Já existe um quarto com o número informado!"))
+                .verify();
+
+        verify(roomRepository, never()).findByRoomNumber(anyInt());
+    }
+
+    /**
+     * Testa o método {@link RoomService#update(Room)}.
+     *
+     * Verifica se o quarto devolvido e o evento publicado são a linha gravada
+     * no banco (data de criação e nova versão), com o tipo e o status associados,
+     * e não o objeto recebido na requisição.
+     *
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUpdate() {
+        RoomEventPublisher publisher = new RoomEventPublisher(
+                new RoomStreamProperties(16, RoomStreamProperties.OverflowPolicy.DROP), mock(ObjectProvider.class));
+        roomService.setEventPublisher(publisher);
+        TypeRoom typeRoom = new TypeRoom(1L, "Single");
+        StatusRoom statusRoom = new StatusRoom(1L, "Available");
+        Room request = new Room(1L, 101, new BigDecimal("75.00"), 1L, 1L);
+        request.setVersion(2L);
+        Room persisted = new Room(1L, 101, new BigDecimal("75.00"), 1L, 1L);
+        persisted.setVersion(3L);
+        persisted.setCreatedAt(LocalDateTime.of(2024, 1, 10, 8, 0));
+        when(typeRoomService.findById(1L)).thenReturn(Mono.just(typeRoom));
+        when(statusRoomService.findById(1L)).thenReturn(Mono.just(statusRoom));
+        when(roomRepository.updateVersioned(request)).thenReturn(Mono.just(persisted));
+
+        StepVerifier.create(publisher.events().take(1))
+                .then(() -> StepVerifier.create(roomService.update(request))
+                        .expectNextMatches(updated -> updated == persisted
+                                && updated.getTypeRoom() == typeRoom && updated.getStatusRoom() == statusRoom)
+                        .verifyComplete())
+                .expectNextMatches(event -> event.type() == RoomEvent.Type.UPDATED && event.room() == persisted)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Testa a conversão das {@link DuplicateKeyException} lançadas pelo repositório.
+     *
+     * Verifica se a violação do índice único do número do quarto na atualização
+     * também vira a mensagem de número duplicado, e se a violação de outra
+     * restrição única continua sendo um erro genérico de gravação.
+     *
+     */
+    @Test
+    void testDuplicateKeyTranslation() {
+        Room room = new Room(1L, 101, new BigDecimal("60.00"), 1L, 1L);
+        when(typeRoomService.findById(anyLong())).thenReturn(Mono.just(new TypeRoom(1L, "Single")));
+        when(statusRoomService.findById(anyLong())).thenReturn(Mono.just(new StatusRoom(1L, "Available")));
+        when(roomRepository.updateVersioned(any(Room.class))).thenReturn(Mono.error(duplicateRoomNumber()));
 
-        StepVerifier.create(roomService.save(room))
+        StepVerifier.create(roomService.update(room))
                 .expectErrorMatches(throwable -> throwable instanceof IllegalArgumentException &&
                         throwable.getMessage().equals("Já existe um quarto com o número informado!"))
                 .verify();
 
-        verify(roomRepository).findByRoomNumber(newRoom.getRoomNumber());
+        when(roomRepository.save(any(Room.class))).thenReturn(Mono.error(new DuplicateKeyException(
+                "executeMany; duplicate key value violates unique constraint \"rooms_pkey\"")));
+
+        StepVerifier.create(roomService.save(new Room(null, 102, new BigDecimal("60.00"), 1L, 1L)))
+                .expectError(InvalidDataException.class)
+                .verify();
+    }
+
+    /**
+     * Testa o método {@link RoomService#saveAll(List)}.
+     *
+     * Verifica se os quartos inválidos são reportados individualmente, se os
+     * tipos e status são buscados uma única vez para todo o lote e se os
+     * quartos válidos são gravados em uma única chamada ao repositório.
+     *
+     */
+    @Test
+    void testSaveAll() {
+        Room valid = new Room(null, 301, new BigDecimal("80.00"), 1L, 1L);
+        Room lowRate = new Room(null, 302, new BigDecimal("10.00"), 1L, 1L);
+        Room repeated = new Room(null, 301, new BigDecimal("90.00"), 1L, 1L);
+        Room unknownType = new Room(null, 303, new BigDecimal("80.00"), 9L, 1L);
+        Room existing = new Room(null, 304, new BigDecimal("80.00"), 1L, 1L);
+
+        when(typeRoomService.findAllById(any())).thenReturn(Flux.just(new TypeRoom(1L, "Single")));
+        when(statusRoomService.findAllById(any())).thenReturn(Flux.just(new StatusRoom(1L, "Available")));
+        when(roomRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Room> pending = invocation.getArgument(0);
+            assertEquals(List.of(valid, existing), pending);
+            valid.setId(10L);
+            return Flux.just(valid);
+        });
+
+        List<BatchOutcome<Room>> outcomes = roomService
+                .saveAll(List.of(valid, lowRate, repeated, unknownType, existing))
+                .block();
+
+        assertEquals(5, outcomes.size());
+        assertEquals(valid, outcomes.get(0).entity());
+        assertEquals("O valor mínimo da diária deve ser 60 reais", outcomes.get(1).error());
+        assertEquals("Número de quarto repetido no lote", outcomes.get(2).error());
+        assertEquals("Tipo ou Status do quarto não encontrado para os IDs fornecidos", outcomes.get(3).error());
+        assertEquals("Já existe um quarto com o número informado!", outcomes.get(4).error());
+        verify(typeRoomService, times(1)).findAllById(any());
+        verify(statusRoomService, times(1)).findAllById(any());
+        verify(roomRepository, times(1)).insertAll(anyList());
+        verify(roomRepository, never()).save(any(Room.class));
+    }
+
+    /**
+     * Testa o método {@link RoomService#updateAll(List)}.
+     *
+     * Verifica se apenas o quarto cujo número pertence a um quarto fora do lote
+     * é rejeitado, e se dois quartos do lote podem trocar de número entre si.
+     *
+     */
+    @Test
+    void testUpdateAllRejectsOnlyTakenRoomNumbers() {
+        Room first = new Room(1L, 102, new BigDecimal("80.00"), 1L, 1L);
+        Room second = new Room(2L, 101, new BigDecimal("80.00"), 1L, 1L);
+        Room taken = new Room(3L, 500, new BigDecimal("80.00"), 1L, 1L);
+
+        when(typeRoomService.findAllById(any())).thenReturn(Flux.just(new TypeRoom(1L, "Single")));
+        when(statusRoomService.findAllById(any())).thenReturn(Flux.just(new StatusRoom(1L, "Available")));
+        when(roomRepository.findAllByRoomNumberIn(any())).thenReturn(Flux.just(
+                new Room(2L, 102, new BigDecimal("80.00"), 1L, 1L),
+                new Room(1L, 101, new BigDecimal("80.00"), 1L, 1L),
+                new Room(9L, 500, new BigDecimal("80.00"), 1L, 1L)));
+        when(roomRepository.updateAll(anyList())).thenAnswer(invocation -> {
+            List<Room> pending = invocation.getArgument(0);
+            assertEquals(List.of(first, second), pending);
+            return Flux.fromIterable(pending);
+        });
+
+        List<BatchOutcome<Room>> outcomes = roomService.updateAll(List.of(first, second, taken)).block();
+
+        assertEquals(3, outcomes.size());
+        assertEquals(first, outcomes.get(0).entity());
+        assertEquals(second, outcomes.get(1).entity());
+        assertEquals("Já existe um quarto com o número informado!", outcomes.get(2).error());
+        verify(roomRepository, times(1)).findAllByRoomNumberIn(any());
+    }
+
+    /**
+     * Testa o método {@link RoomService#search(RoomSearchCriteria, RoomSort, String, int)}.
+     *
+     * Verifica se o cursor da página anterior é decodificado para os valores das
+     * chaves de ordenação e se um cursor gerado para outra ordenação é rejeitado.
+     *
+     */
+    @Test
+    void testSearch() {
+        RoomSort byRate = RoomSort.parse("-dailyRate");
+        String cursor = byRate.encodeCursor(room);
+        when(roomRepository.search(any(), any(), any(), anyInt())).thenReturn(Flux.just(room));
+
+        StepVerifier.create(roomService.search(RoomSearchCriteria.ANY, byRate, cursor, 10))
+                .expectNext(room)
+                .verifyComplete();
+        verify(roomRepository).search(RoomSearchCriteria.ANY, byRate, byRate.decodeCursor(cursor), 10);
+
+        StepVerifier.create(roomService.search(RoomSearchCriteria.ANY, RoomSort.DEFAULT, cursor, 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(roomRepository, times(1)).search(any(), any(), any(), anyInt());
+    }
+
+    /**
+     * Testa o método {@link RoomService#delete(Long)}.
+     *
+     * Verifica se a exclusão é feita pela instrução que também grava a lápide
+     * usada pela sincronização incremental, e não por {@code deleteById}.
+     *
+     */
+    @Test
+    void testDelete() {
+        when(roomRepository.deleteWithTombstone(eq(1L), any())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(roomService.delete(1L)).verifyComplete();
+
+        verify(roomRepository, times(1)).deleteWithTombstone(eq(1L), any());
+        verify(roomRepository, never()).deleteById(anyLong());
+    }
+
+    /**
+     * Testa o método {@link RoomService#watch(int)}.
+     *
+     * Verifica se o assinante recebe primeiro o estado atual dos quartos e depois
+     * as alterações, inclusive as publicadas enquanto o estado atual era lido.
+     *
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWatch() {
+        RoomEventPublisher publisher = new RoomEventPublisher(
+                new RoomStreamProperties(16, RoomStreamProperties.OverflowPolicy.DROP), mock(ObjectProvider.class));
+        roomService.setEventPublisher(publisher);
+        Room updated = new Room(1L, 101, new BigDecimal("75.00"), 1L, 1L);
+        when(roomRepository.findAllWithDependencies(anyInt())).thenReturn(Flux.just(room)
+                .doOnComplete(() -> publisher.publish(new RoomEvent(RoomEvent.Type.UPDATED, 1L, updated))));
+
+        StepVerifier.create(roomService.watch(10))
+                .expectNext(new RoomEvent(RoomEvent.Type.SNAPSHOT, 1L, room))
+                .expectNext(new RoomEvent(RoomEvent.Type.UPDATED, 1L, updated))
+                .then(() -> publisher.publish(new RoomEvent(RoomEvent.Type.DELETED, 1L, null)))
+                .expectNext(new RoomEvent(RoomEvent.Type.DELETED, 1L, null))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Testa o método {@link RoomService#watch(int)} com um assinante que ainda
+     * lê o estado atual.
+     *
+     * Verifica se os eventos publicados durante a leitura respeitam o buffer
+     * configurado, descartando os mais antigos, e se o mais recente é entregue.
+     *
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWatchBoundsPendingEvents() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        when(meterRegistry.getIfAvailable()).thenReturn(registry);
+        RoomEventPublisher publisher = new RoomEventPublisher(
+                new RoomStreamProperties(2, RoomStreamProperties.OverflowPolicy.DROP), meterRegistry);
+        roomService.setEventPublisher(publisher);
+        RoomEvent latest = new RoomEvent(RoomEvent.Type.DELETED, 5L, null);
+        when(roomRepository.findAllWithDependencies(anyInt())).thenReturn(Flux.just(room)
+                .doOnComplete(() -> {
+                    for (long id = 1; id < 5; id++) {
+                        publisher.publish(new RoomEvent(RoomEvent.Type.DELETED, id, null));
+                    }
+                    publisher.publish(latest);
+                }));
+
+        StepVerifier.create(roomService.watch(10))
+                .expectNext(new RoomEvent(RoomEvent.Type.SNAPSHOT, 1L, room))
+                .expectNext(new RoomEvent(RoomEvent.Type.DELETED, 4L, null))
+                .expectNext(latest)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(3.0, registry.counter("hotel.rooms.stream.dropped").count());
+    }
+
+    /**
+     * Testa os métodos {@link RoomService#updateStatus(Long, Long, Long)} e
+     * {@link RoomService#updateStatusAll(List, Long)}.
+     *
+     * Verifica se a alteração de status usa apenas a instrução de alteração,
+     * sem buscar o quarto antes, e se o lote reporta IDs repetidos e inexistentes.
+     *
+     */
+    @Test
+    void testUpdateStatus() {
+        TypeRoom typeRoom = new TypeRoom(1L, "Luxo");
+        StatusRoom clean = new StatusRoom(2L, "Limpo");
+        Room cleaned = new Room(1L, 101, new BigDecimal("60.00"), 1L, 2L);
+        when(statusRoomService.findById(2L)).thenReturn(Mono.just(clean));
+        when(typeRoomService.findById(1L)).thenReturn(Mono.just(typeRoom));
+        when(roomRepository.updateStatus(1L, 2L, null)).thenReturn(Mono.just(cleaned));
+        when(roomRepository.updateStatusAll(List.of(1L, 3L), 2L)).thenReturn(Flux.just(cleaned));
+
+        StepVerifier.create(roomService.updateStatus(1L, 2L, null))
+                .expectNextMatches(updated -> updated.getStatusRoom() == clean && updated.getTypeRoom() == typeRoom)
+                .verifyComplete();
+        verify(roomRepository, never()).findByIdWithDependencies(anyLong());
+
+        StepVerifier.create(roomService.updateStatusAll(List.of(1L, 1L, 3L), 2L))
+                .expectNextMatches(outcomes -> outcomes.get(0).isSuccess()
+                        && "Quarto repetido no lote".equals(outcomes.get(1).error())
+                        && "Quarto não encontrado".equals(outcomes.get(2).error()))
+                .verifyComplete();
+
+        when(statusRoomService.findById(9L)).thenReturn(Mono.error(new ResourceNotFoundException("Object not found with id: 9")));
+        StepVerifier.create(roomService.updateStatus(1L, 9L, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    /**
+     * Testa o método {@link RoomService#patch(Long, RoomPatch)}.
+     *
+     * Verifica se apenas os campos informados são validados e gravados, sem
+     * buscar o quarto antes, e se a taxa diária informada continua validada.
+     *
+     */
+    @Test
+    void testPatch() {
+        RoomPatch patch = new RoomPatch(null, new BigDecimal("80.00"), null, null, null);
+        Room patched = new Room(1L, 101, new BigDecimal("80.00"), 1L, 1L);
+        when(roomRepository.patch(1L, patch)).thenReturn(Mono.just(patched));
+        when(typeRoomService.findById(1L)).thenReturn(Mono.just(new TypeRoom(1L, "Luxo")));
+        when(statusRoomService.findById(1L)).thenReturn(Mono.just(new StatusRoom(1L, "Disponível")));
+
+        StepVerifier.create(roomService.patch(1L, patch))
+                .expectNextMatches(updated -> updated.getDailyRate().equals(new BigDecimal("80.00"))
+                        && updated.getTypeRoom() != null && updated.getStatusRoom() != null)
+                .verifyComplete();
+        verify(roomRepository, never()).findByIdWithDependencies(anyLong());
+
+        StepVerifier.create(roomService.patch(1L, new RoomPatch(null, new BigDecimal("50.00"), null, null, null)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(roomRepository, times(1)).patch(anyLong(), any());
+    }
+
+    @Test
+    void testFindProjected() {
+        RoomProjection projection = RoomProjection.parse("roomNumber,statusRoomId", null);
+        Room room = new Room();
+        room.setId(1L);
+        room.setRoomNumber(101);
+        room.setStatusRoomId(2L);
+        when(roomRepository.findProjected(projection, null, null)).thenReturn(Flux.just(room));
+
+        StepVerifier.create(roomService.findProjected(projection, null, null))
+                .expectNextMatches(found -> found.getRoomNumber() == 101 && found.getStatusRoomId() == 2L
+                        && found.getTypeRoom() == null && found.getStatusRoom() == null)
+                .verifyComplete();
+        verify(roomRepository, never()).findAllWithDependencies();
         verify(typeRoomService, never()).findById(anyLong());
         verify(statusRoomService, never()).findById(anyLong());
+
+        assertThrows(IllegalArgumentException.class, () -> RoomProjection.parse("roomNumber,createdAt", null));
+        assertThrows(IllegalArgumentException.class, () -> RoomProjection.parse(null, "hotel"));
+    }
+
+    private static DuplicateKeyException duplicateRoomNumber() {
+        return new DuplicateKeyException(
+                "executeMany; duplicate key value violates unique constraint \"ux_rooms_room_number\"");
     }
 }